@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the client-side hot paths.
+ *
+ * <p>All calls go to {@link StubSimpleDB}, in process, so only the
+ * overhead of this library and the AWS model is measured: throughput,
+ * latency distribution, and allocation rate (with "-prof gc", which is
+ * the default in "jmh" Maven profile).
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientBench {
+
+    /**
+     * Domain name.
+     */
+    private static final String TABLE = "bench";
+
+    /**
+     * Credentials, which return the stand-in.
+     */
+    private transient Credentials credentials;
+
+    /**
+     * Real credentials, with a shared AWS client.
+     */
+    private transient Credentials.Simple simple;
+
+    /**
+     * Item to read and write.
+     */
+    private transient Item item;
+
+    /**
+     * Attributes to put.
+     */
+    private transient Map<String, String> attrs;
+
+    /**
+     * Make the stand-in.
+     */
+    @Setup
+    public void setup() {
+        final AmazonSimpleDB aws = new StubSimpleDB(10, 100, 10);
+        this.credentials = () -> aws;
+        this.simple = new Credentials.Simple(
+            "AAAAAAAAAAAAAAAAAAAA",
+            "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA"
+        );
+        this.item = new AwsItem(this.credentials, ClientBench.TABLE, "item");
+        this.attrs = new HashMap<>(0);
+        for (int idx = 0; idx < 10; ++idx) {
+            this.attrs.put(
+                String.format("attr-%d", idx), String.format("new %d", idx)
+            );
+        }
+    }
+
+    /**
+     * Shut down the shared AWS client.
+     */
+    @TearDown
+    public void close() {
+        this.simple.close();
+    }
+
+    /**
+     * Iterate a select of ten pages of a hundred items each.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void iterate(final Blackhole hole) {
+        final Iterator<Item> items = new AwsIterator(
+            this.credentials, ClientBench.TABLE,
+            new SelectRequest("SELECT * FROM `bench`")
+        );
+        while (items.hasNext()) {
+            hole.consume(items.next().get("attr-5"));
+        }
+    }
+
+    /**
+     * Read one attribute.
+     * @return Value
+     */
+    @Benchmark
+    public String get() {
+        return this.item.get("attr-5");
+    }
+
+    /**
+     * Read all attributes.
+     * @param hole Black hole
+     */
+    @Benchmark
+    public void entrySet(final Blackhole hole) {
+        for (final Map.Entry<String, String> entry : this.item.entrySet()) {
+            hole.consume(entry);
+        }
+    }
+
+    /**
+     * Build and send a put of ten attributes.
+     */
+    @Benchmark
+    public void putAll() {
+        this.item.putAll(this.attrs);
+    }
+
+    /**
+     * Get the shared AWS client.
+     * @return Client
+     */
+    @Benchmark
+    public AmazonSimpleDB aws() {
+        return this.simple.aws();
+    }
+}
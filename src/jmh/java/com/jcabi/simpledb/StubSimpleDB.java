@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.AbstractAmazonSimpleDB;
+import com.amazonaws.services.simpledb.model.Attribute;
+import com.amazonaws.services.simpledb.model.DeleteAttributesRequest;
+import com.amazonaws.services.simpledb.model.DeleteAttributesResult;
+import com.amazonaws.services.simpledb.model.GetAttributesRequest;
+import com.amazonaws.services.simpledb.model.GetAttributesResult;
+import com.amazonaws.services.simpledb.model.PutAttributesRequest;
+import com.amazonaws.services.simpledb.model.PutAttributesResult;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.amazonaws.services.simpledb.model.SelectResult;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-process stand-in of SimpleDB, with canned responses.
+ *
+ * <p>Every item has the same attributes, every select returns the same
+ * number of pages of the same items. Responses are built once, so
+ * benchmarks measure the client side only.
+ *
+ * @since 1.0
+ */
+final class StubSimpleDB extends AbstractAmazonSimpleDB {
+
+    /**
+     * Attributes of every item.
+     */
+    private final transient List<Attribute> attrs;
+
+    /**
+     * Pages of every select.
+     */
+    private final transient List<SelectResult> pages;
+
+    /**
+     * Ctor.
+     * @param width Attributes per item
+     * @param size Items per page
+     * @param total Pages per select
+     */
+    StubSimpleDB(final int width, final int size, final int total) {
+        super();
+        this.attrs = new ArrayList<>(width);
+        for (int idx = 0; idx < width; ++idx) {
+            this.attrs.add(
+                new Attribute()
+                    .withName(String.format("attr-%d", idx))
+                    .withValue(String.format("value of attribute %d", idx))
+            );
+        }
+        this.pages = new ArrayList<>(total);
+        for (int page = 0; page < total; ++page) {
+            final SelectResult result = new SelectResult();
+            for (int idx = 0; idx < size; ++idx) {
+                result.withItems(
+                    new com.amazonaws.services.simpledb.model.Item()
+                        .withName(String.format("item-%d-%d", page, idx))
+                        .withAttributes(this.attrs)
+                );
+            }
+            if (page < total - 1) {
+                result.setNextToken(Integer.toString(page + 1));
+            }
+            this.pages.add(result);
+        }
+    }
+
+    @Override
+    public GetAttributesResult getAttributes(
+        final GetAttributesRequest request) {
+        return new GetAttributesResult().withAttributes(this.attrs);
+    }
+
+    @Override
+    public PutAttributesResult putAttributes(
+        final PutAttributesRequest request) {
+        return new PutAttributesResult();
+    }
+
+    @Override
+    public DeleteAttributesResult deleteAttributes(
+        final DeleteAttributesRequest request) {
+        return new DeleteAttributesResult();
+    }
+
+    @Override
+    public SelectResult select(final SelectRequest request) {
+        int page = 0;
+        if (request.getNextToken() != null) {
+            page = Integer.parseInt(request.getNextToken());
+        }
+        return this.pages.get(page);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import javax.validation.constraints.NotNull;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Asynchronous view of a domain.
+ *
+ * <p>Every call runs on the executor provided and returns immediately,
+ * so that the results may be composed without blocking, for example:
+ *
+ * <pre> AsyncDomain domain = new AsyncDomain(
+ *   region.domain("employees"),
+ *   Executors.newFixedThreadPool(16)
+ * );
+ * CompletableFuture&lt;String&gt; name = domain.item("324").get("Name");
+ * CompletableFuture&lt;String&gt; boss = domain.item("325").get("Name");
+ * name.thenCombine(boss, (e, b) -&gt; e + " reports to " + b);</pre>
+ *
+ * <p>Calls to SimpleDB are still blocking: every call holds a thread of
+ * the executor until SimpleDB responds, so there are never more calls
+ * in flight than threads in the executor, and the rest wait in its
+ * queue. Size the executor for the concurrency needed.
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+public final class AsyncDomain {
+
+    /**
+     * Original domain.
+     */
+    private final transient Domain origin;
+
+    /**
+     * Executor to run calls on.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Public ctor.
+     * @param domain Original domain
+     * @param exec Executor to run calls on
+     */
+    public AsyncDomain(@NotNull(message = "domain can't be NULL")
+        final Domain domain,
+        @NotNull(message = "executor can't be NULL") final Executor exec) {
+        this.origin = domain;
+        this.executor = exec;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    /**
+     * Get its name.
+     * @return Name of domain
+     */
+    @NotNull(message = "name is never NULL")
+    public String name() {
+        return this.origin.name();
+    }
+
+    /**
+     * Create it.
+     * @return Future to complete when it's created
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<Void> create() {
+        return CompletableFuture.runAsync(this.origin::create, this.executor);
+    }
+
+    /**
+     * Drop it.
+     * @return Future to complete when it's dropped
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<Void> drop() {
+        return CompletableFuture.runAsync(this.origin::drop, this.executor);
+    }
+
+    /**
+     * Get item.
+     * @param name Name of the item
+     * @return Item
+     */
+    @NotNull(message = "item is never NULL")
+    public AsyncItem item(@NotNull final String name) {
+        return new AsyncItem(this.origin.item(name), this.executor);
+    }
+
+    /**
+     * Select multiple items, fetching all pages of the result.
+     *
+     * <p>All items found are kept in memory, in the list, until the future
+     * completes, which may be a lot for a big result. Use
+     * {@link #select(SelectRequest, Consumer)} to process them one by one
+     * instead.
+     *
+     * @param request Select request
+     * @return Future of the items found
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<List<Item>> select(
+        @NotNull final SelectRequest request) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                final List<Item> items = new ArrayList<>(0);
+                for (final Item item : this.origin.select(request)) {
+                    items.add(item);
+                }
+                return items;
+            },
+            this.executor
+        );
+    }
+
+    /**
+     * Select multiple items and give them to the consumer one by one,
+     * while pages of the result are fetched.
+     *
+     * <p>Only the current page of the result is kept in memory. The
+     * consumer is called in a thread of the executor.
+     *
+     * @param request Select request
+     * @param consumer Consumer of the items found
+     * @return Future of the number of items found
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<Long> select(
+        @NotNull final SelectRequest request,
+        @NotNull final Consumer<? super Item> consumer) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                long total = 0L;
+                for (final Item item : this.origin.select(request)) {
+                    consumer.accept(item);
+                    ++total;
+                }
+                return total;
+            },
+            this.executor
+        );
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import javax.validation.constraints.NotNull;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Asynchronous view of an item.
+ *
+ * <p>Every call runs on the executor provided and returns immediately.
+ * Use {@link #fresh()} to read many attributes with one call.
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+public final class AsyncItem {
+
+    /**
+     * Original item.
+     */
+    private final transient Item origin;
+
+    /**
+     * Executor to run calls on.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Public ctor.
+     * @param item Original item
+     * @param exec Executor to run calls on
+     */
+    public AsyncItem(@NotNull(message = "item can't be NULL")
+        final Item item,
+        @NotNull(message = "executor can't be NULL") final Executor exec) {
+        this.origin = item;
+        this.executor = exec;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    /**
+     * Get its name.
+     * @return Name of the item
+     */
+    @NotNull(message = "name is never NULL")
+    public String name() {
+        return this.origin.name();
+    }
+
+    /**
+     * Load a fresh copy of it, with all attributes.
+     * @return Future of the item loaded
+     * @see Item#fresh()
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<Item> fresh() {
+        return CompletableFuture.supplyAsync(this.origin::fresh, this.executor);
+    }
+
+    /**
+     * Get one attribute.
+     * @param key Name of the attribute
+     * @return Future of its value, NULL if absent
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<String> get(@NotNull final String key) {
+        return CompletableFuture.supplyAsync(
+            () -> this.origin.get(key), this.executor
+        );
+    }
+
+    /**
+     * Get all values of one attribute.
+     * @param name Name of the attribute
+     * @return Future of its values, empty if absent
+     * @see Item#all(String)
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<List<String>> all(@NotNull final String name) {
+        return CompletableFuture.supplyAsync(
+            () -> this.origin.all(name), this.executor
+        );
+    }
+
+    /**
+     * Add values to one attribute, keeping the values it already has.
+     * @param name Name of the attribute
+     * @param values Values to add
+     * @return Future to complete when they are saved
+     * @see Item#append(String, Collection)
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<Void> append(@NotNull final String name,
+        @NotNull final Collection<String> values) {
+        return CompletableFuture.runAsync(
+            () -> this.origin.append(name, values), this.executor
+        );
+    }
+
+    /**
+     * Put attributes.
+     * @param map Attributes to put
+     * @return Future to complete when they are saved
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<Void> putAll(
+        @NotNull final Map<String, String> map) {
+        return CompletableFuture.runAsync(
+            () -> this.origin.putAll(map), this.executor
+        );
+    }
+
+    /**
+     * Put attributes, if the condition holds.
+     * @param map Attributes to put
+     * @param condition Condition expected
+     * @return Future to complete when they are saved, or to fail with
+     *  {@link ConflictException} if the condition doesn't hold
+     * @see Item#putAll(Map, Condition)
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<Void> putAll(
+        @NotNull final Map<String, String> map,
+        @NotNull final Condition condition) {
+        return CompletableFuture.runAsync(
+            () -> this.origin.putAll(map, condition), this.executor
+        );
+    }
+
+    /**
+     * Delete attributes, if the condition holds.
+     * @param names Names of attributes to delete, all of them if empty
+     * @param condition Condition expected
+     * @return Future to complete when they are deleted, or to fail with
+     *  {@link ConflictException} if the condition doesn't hold
+     * @see Item#delete(Collection, Condition)
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<Void> delete(
+        @NotNull final Collection<String> names,
+        @NotNull final Condition condition) {
+        return CompletableFuture.runAsync(
+            () -> this.origin.delete(names, condition), this.executor
+        );
+    }
+
+    /**
+     * Remove one attribute.
+     * @param key Name of the attribute
+     * @return Future of its value before removal, NULL if absent
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<String> remove(@NotNull final String key) {
+        return CompletableFuture.supplyAsync(
+            () -> this.origin.remove(key), this.executor
+        );
+    }
+
+    /**
+     * Remove all attributes.
+     * @return Future to complete when they are removed
+     */
+    @NotNull(message = "future is never NULL")
+    public CompletableFuture<Void> clear() {
+        return CompletableFuture.runAsync(this.origin::clear, this.executor);
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.simpledb.model.Attribute;
+import com.amazonaws.services.simpledb.model.BatchDeleteAttributesRequest;
+import com.amazonaws.services.simpledb.model.BatchPutAttributesRequest;
+import com.amazonaws.services.simpledb.model.DeletableItem;
+import com.amazonaws.services.simpledb.model.ReplaceableAttribute;
+import com.amazonaws.services.simpledb.model.ReplaceableItem;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Batch of writes to SimpleDB, through AWS SDK.
+ *
+ * <p>As soon as 25 items are pending, they are sent to SimpleDB
+ * on the executor, while the batch continues to accept writes. Puts
+ * are also sent earlier, when the next one would make the call bigger
+ * than 1 MB, counting bytes of names and values.
+ *
+ * <p>Puts are checked before they are accepted: a put without
+ * attributes, or the one which makes the item have more than 256
+ * attributes or take more than 1 MB, is rejected with
+ * {@link IllegalArgumentException}, since SimpleDB would reject the
+ * entire call with it.
+ *
+ * @since 1.0
+ */
+final class AwsBatch implements Batch {
+
+    /**
+     * Maximum number of items in one call, allowed by SimpleDB.
+     */
+    private static final int MAX = 25;
+
+    /**
+     * Maximum number of attributes of one item in one call.
+     */
+    private static final int ATTRS = 256;
+
+    /**
+     * Maximum size of one call, in bytes.
+     */
+    private static final long BYTES = 1L << 20;
+
+    /**
+     * AWS credentials.
+     */
+    private final transient Credentials credentials;
+
+    /**
+     * Domain name.
+     */
+    private final transient String table;
+
+    /**
+     * Executor to send calls on.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Pending puts, by item names.
+     */
+    private final transient Map<String, Map<String, String>> puts;
+
+    /**
+     * Pending deletes, by item names (empty when entire item is deleted).
+     */
+    private final transient Map<String, Collection<String>> deletes;
+
+    /**
+     * Calls sent and not yet waited for.
+     */
+    private final transient Collection<CompletableFuture<Void>> sent;
+
+    /**
+     * Items failed, by their names.
+     */
+    private final transient ConcurrentMap<String, Exception> failures;
+
+    /**
+     * Bytes of names and values of pending puts.
+     */
+    private transient long bytes;
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     * @param name Domain name
+     * @param exec Executor to send calls on
+     */
+    AwsBatch(final Credentials creds, final String name, final Executor exec) {
+        this.credentials = creds;
+        this.table = name;
+        this.executor = exec;
+        this.puts = new LinkedHashMap<>(0);
+        this.deletes = new LinkedHashMap<>(0);
+        this.sent = new LinkedList<>();
+        this.failures = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d puts and %d deletes in %s",
+            this.puts.size(), this.deletes.size(), this.table
+        );
+    }
+
+    @Override
+    public void put(final String item,
+        final Map<? extends String, ? extends String> attrs) {
+        if (attrs.isEmpty()) {
+            throw new IllegalArgumentException(
+                String.format("no attributes to put into %s", item)
+            );
+        }
+        final Map<String, String> before = this.puts.get(item);
+        final Map<String, String> after = new LinkedHashMap<>(attrs.size());
+        long prior = 0L;
+        if (before != null) {
+            after.putAll(before);
+            prior = AwsBatch.size(item, before);
+        }
+        after.putAll(attrs);
+        if (after.size() > AwsBatch.ATTRS) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "%d attributes of %s, while %d are allowed in one call",
+                    after.size(), item, AwsBatch.ATTRS
+                )
+            );
+        }
+        final long size = AwsBatch.size(item, after);
+        if (size > AwsBatch.BYTES) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "%d bytes in %s, while %d are allowed in one call",
+                    size, item, AwsBatch.BYTES
+                )
+            );
+        }
+        if (this.bytes - prior + size > AwsBatch.BYTES) {
+            this.sendPuts();
+            prior = 0L;
+        }
+        this.puts.put(item, after);
+        this.bytes += size - prior;
+        if (this.puts.size() == AwsBatch.MAX) {
+            this.sendPuts();
+        }
+    }
+
+    @Override
+    public void delete(final String item) {
+        this.deletes.put(item, Collections.emptySet());
+        if (this.deletes.size() == AwsBatch.MAX) {
+            this.sendDeletes();
+        }
+    }
+
+    @Override
+    public void delete(final String item, final Collection<String> attrs) {
+        if (!attrs.isEmpty()) {
+            final Collection<String> before = this.deletes.get(item);
+            if (before == null) {
+                this.deletes.put(item, new LinkedHashSet<>(attrs));
+            } else if (!before.isEmpty()) {
+                before.addAll(attrs);
+            }
+            if (this.deletes.size() == AwsBatch.MAX) {
+                this.sendDeletes();
+            }
+        }
+    }
+
+    @Override
+    public Map<String, Exception> flush() {
+        if (!this.puts.isEmpty()) {
+            this.sendPuts();
+        }
+        if (!this.deletes.isEmpty()) {
+            this.sendDeletes();
+        }
+        CompletableFuture.allOf(
+            this.sent.toArray(new CompletableFuture<?>[0])
+        ).join();
+        this.sent.clear();
+        final Map<String, Exception> failed = new HashMap<>(this.failures);
+        this.failures.clear();
+        return failed;
+    }
+
+    /**
+     * Send all pending puts.
+     */
+    private void sendPuts() {
+        final Collection<ReplaceableItem> items =
+            new ArrayList<>(this.puts.size());
+        for (final Map.Entry<String, Map<String, String>> item
+            : this.puts.entrySet()) {
+            final Collection<ReplaceableAttribute> attrs =
+                new ArrayList<>(item.getValue().size());
+            for (final Map.Entry<String, String> attr
+                : item.getValue().entrySet()) {
+                attrs.add(
+                    new ReplaceableAttribute()
+                        .withName(attr.getKey())
+                        .withValue(attr.getValue())
+                        .withReplace(true)
+                );
+            }
+            items.add(
+                new ReplaceableItem()
+                    .withName(item.getKey())
+                    .withAttributes(attrs)
+            );
+        }
+        final Collection<String> names = new ArrayList<>(this.puts.keySet());
+        this.puts.clear();
+        this.bytes = 0L;
+        this.send(
+            names,
+            () -> this.credentials.aws().batchPutAttributes(
+                new BatchPutAttributesRequest()
+                    .withDomainName(this.table)
+                    .withItems(items)
+            )
+        );
+    }
+
+    /**
+     * Send all pending deletes.
+     */
+    private void sendDeletes() {
+        final Collection<DeletableItem> items =
+            new ArrayList<>(this.deletes.size());
+        for (final Map.Entry<String, Collection<String>> item
+            : this.deletes.entrySet()) {
+            final Collection<Attribute> attrs =
+                new ArrayList<>(item.getValue().size());
+            for (final String attr : item.getValue()) {
+                attrs.add(new Attribute().withName(attr));
+            }
+            items.add(
+                new DeletableItem()
+                    .withName(item.getKey())
+                    .withAttributes(attrs)
+            );
+        }
+        final Collection<String> names =
+            new ArrayList<>(this.deletes.keySet());
+        this.deletes.clear();
+        this.send(
+            names,
+            () -> this.credentials.aws().batchDeleteAttributes(
+                new BatchDeleteAttributesRequest()
+                    .withDomainName(this.table)
+                    .withItems(items)
+            )
+        );
+    }
+
+    /**
+     * Count bytes of the names and values of the item.
+     * @param item Name of the item
+     * @param attrs Attributes
+     * @return Bytes
+     */
+    private static long size(final String item,
+        final Map<String, String> attrs) {
+        long size = AwsBatch.length(item);
+        for (final Map.Entry<String, String> attr : attrs.entrySet()) {
+            size += AwsBatch.length(attr.getKey())
+                + AwsBatch.length(attr.getValue());
+        }
+        return size;
+    }
+
+    /**
+     * Count bytes of the text, in UTF-8.
+     * @param text The text
+     * @return Bytes
+     */
+    private static long length(final String text) {
+        return (long) text.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Send one call on the executor.
+     * @param names Names of items in the call
+     * @param call The call
+     */
+    private void send(final Collection<String> names, final Runnable call) {
+        this.sent.removeIf(
+            future -> future.isDone() && !future.isCompletedExceptionally()
+        );
+        this.sent.add(
+            CompletableFuture.runAsync(
+                () -> {
+                    try {
+                        call.run();
+                    } catch (final AmazonClientException ex) {
+                        for (final String name : names) {
+                            this.failures.put(name, ex);
+                        }
+                    }
+                },
+                this.executor
+            )
+        );
+    }
+}
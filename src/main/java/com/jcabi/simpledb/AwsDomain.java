@@ -6,9 +6,13 @@ package com.jcabi.simpledb;
 
 import com.amazonaws.services.simpledb.model.CreateDomainRequest;
 import com.amazonaws.services.simpledb.model.DeleteDomainRequest;
+import com.amazonaws.services.simpledb.model.DomainMetadataRequest;
 import com.amazonaws.services.simpledb.model.SelectRequest;
 import com.jcabi.aspects.Immutable;
-import com.jcabi.aspects.Loggable;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
 
 /**
@@ -16,10 +20,28 @@ import lombok.EqualsAndHashCode;
  * @since 0.1
  */
 @Immutable
-@Loggable(Loggable.DEBUG)
-@EqualsAndHashCode(of = { "credentials", "table" })
+@EqualsAndHashCode(of = { "credentials", "table", "consistency", "depth" })
 final class AwsDomain implements Domain {
 
+    /**
+     * Maximum number of items in a page of SimpleDB.
+     */
+    private static final int PAGE = 2500;
+
+    /**
+     * Limit at the end of a select expression.
+     */
+    private static final Pattern LIMIT = Pattern.compile(
+        "\\blimit\\s+(\\d+)\\s*$", Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Output of the number of items in a select expression.
+     */
+    private static final Pattern COUNT = Pattern.compile(
+        "^\\s*select\\s+count\\s*\\(", Pattern.CASE_INSENSITIVE
+    );
+
     /**
      * AWS credentials.
      */
@@ -30,14 +52,39 @@ final class AwsDomain implements Domain {
      */
     private final transient String table;
 
+    /**
+     * How items and selects read, unless requested otherwise.
+     */
+    private final transient Consistency consistency;
+
+    /**
+     * How many pages of select results to fetch ahead, in background.
+     */
+    private final transient int depth;
+
     /**
      * Public ctor.
      * @param creds Credentials
      * @param name Domain name
      */
     AwsDomain(final Credentials creds, final String name) {
+        this(creds, name, Consistency.STRONG, 0);
+    }
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     * @param name Domain name
+     * @param reads How items and selects read, unless requested otherwise
+     * @param pages How many pages to fetch ahead, zero to disable
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    AwsDomain(final Credentials creds, final String name,
+        final Consistency reads, final int pages) {
         this.credentials = creds;
         this.table = name;
+        this.consistency = reads;
+        this.depth = pages;
     }
 
     @Override
@@ -55,6 +102,7 @@ final class AwsDomain implements Domain {
         this.credentials.aws().createDomain(
             new CreateDomainRequest().withDomainName(this.table)
         );
+        MetadataCache.SHARED.forget(this.credentials, this.table);
     }
 
     @Override
@@ -62,19 +110,109 @@ final class AwsDomain implements Domain {
         this.credentials.aws().deleteDomain(
             new DeleteDomainRequest().withDomainName(this.table)
         );
+        MetadataCache.SHARED.forget(this.credentials, this.table);
     }
 
     @Override
     public Item item(final String name) {
-        return new AwsItem(this.credentials, this.table, name);
+        return this.item(name, this.consistency);
+    }
+
+    @Override
+    public Item item(final String name, final Consistency consistency) {
+        final Item item;
+        if (consistency == Consistency.CACHED) {
+            item = new CachedItem(
+                new AwsItem(this.credentials, this.table, name)
+            );
+        } else {
+            item = new AwsItem(
+                this.credentials, this.table, name,
+                consistency == Consistency.STRONG
+            );
+        }
+        return item;
     }
 
     @Override
     public Iterable<Item> select(final SelectRequest request) {
-        return () -> new AwsIterator(
-            this.credentials,
-            this.table,
-            request
+        return new AwsSelect(
+            this.credentials, this.table, this.consistent(request), this.depth
         );
     }
+
+    @Override
+    public Stream<Item> stream(final SelectRequest request, final long limit) {
+        SelectRequest req = this.consistent(request);
+        final Matcher matcher = AwsDomain.LIMIT.matcher(
+            req.getSelectExpression()
+        );
+        final long max = Math.min(limit, (long) AwsDomain.PAGE);
+        if (!AwsDomain.COUNT.matcher(req.getSelectExpression()).find()
+            && max > 0L) {
+            if (!matcher.find()) {
+                req = req.clone().withSelectExpression(
+                    String.format(
+                        "%s LIMIT %d", req.getSelectExpression(), max
+                    )
+                );
+            } else if (Long.parseLong(matcher.group(1)) > max) {
+                req = req.clone().withSelectExpression(
+                    matcher.replaceFirst(String.format("LIMIT %d", max))
+                );
+            }
+        }
+        return new AwsSelect(this.credentials, this.table, req, this.depth)
+            .stream().limit(limit);
+    }
+
+    @Override
+    public long count(final SelectRequest request) {
+        if (!AwsDomain.COUNT.matcher(request.getSelectExpression()).find()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "expression must select count(*): %s",
+                    request.getSelectExpression()
+                )
+            );
+        }
+        long total = 0L;
+        for (final Item page : this.select(request)) {
+            total += Long.parseLong(page.get("Count"));
+        }
+        return total;
+    }
+
+    @Override
+    public Metadata metadata() {
+        return MetadataCache.SHARED.metadata(
+            this.credentials, this.table,
+            () -> new Metadata(
+                this.credentials.aws().domainMetadata(
+                    new DomainMetadataRequest(this.table)
+                )
+            )
+        );
+    }
+
+    @Override
+    public Batch batch(final Executor executor) {
+        return new AwsBatch(this.credentials, this.table, executor);
+    }
+
+    /**
+     * Make the request read as the domain is configured to, unless
+     * it is set explicitly.
+     * @param request Select request
+     * @return Request, maybe the same
+     */
+    private SelectRequest consistent(final SelectRequest request) {
+        SelectRequest req = request;
+        if (req.getConsistentRead() == null) {
+            req = req.clone().withConsistentRead(
+                this.consistency != Consistency.EVENTUAL
+            );
+        }
+        return req;
+    }
 }
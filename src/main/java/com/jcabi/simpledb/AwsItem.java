@@ -4,6 +4,7 @@
  */
 package com.jcabi.simpledb;
 
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.simpledb.model.Attribute;
 import com.amazonaws.services.simpledb.model.DeleteAttributesRequest;
 import com.amazonaws.services.simpledb.model.GetAttributesRequest;
@@ -11,11 +12,14 @@ import com.amazonaws.services.simpledb.model.GetAttributesResult;
 import com.amazonaws.services.simpledb.model.PutAttributesRequest;
 import com.amazonaws.services.simpledb.model.ReplaceableAttribute;
 import com.jcabi.aspects.Immutable;
-import com.jcabi.aspects.Loggable;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -24,13 +28,24 @@ import lombok.EqualsAndHashCode;
 
 /**
  * Single item/row in a SimpleDB table.
+ *
+ * <p>Every read is a call to SimpleDB, either consistent or not.
+ * If an attribute has a few values, {@link #get(Object)} returns the
+ * first one SimpleDB reports.
+ *
  * @since 0.1
  */
 @Immutable
-@Loggable(Loggable.DEBUG)
-@EqualsAndHashCode(of = { "credentials", "table", "label" })
+@EqualsAndHashCode(of = { "credentials", "table", "label", "consistent" })
 final class AwsItem implements Item {
 
+    /**
+     * Error codes of SimpleDB, which mean that condition doesn't hold.
+     */
+    private static final Collection<String> CONFLICTS = Arrays.asList(
+        "ConditionalCheckFailed", "AttributeDoesNotExist"
+    );
+
     /**
      * AWS credentials.
      */
@@ -42,19 +57,23 @@ final class AwsItem implements Item {
     private final transient String table;
 
     /**
-     * Table name.
+     * Item name.
      */
     private final transient String label;
 
+    /**
+     * Are reads consistent?
+     */
+    private final transient boolean consistent;
+
     /**
      * Public ctor.
      * @param creds Credentials
      * @param tbl Table name
      * @param item Item name
      */
-    AwsItem(final Credentials creds, final String tbl,
-        final com.amazonaws.services.simpledb.model.Item item) {
-        this(creds, tbl, item.getName());
+    AwsItem(final Credentials creds, final String tbl, final String item) {
+        this(creds, tbl, item, true);
     }
 
     /**
@@ -62,11 +81,15 @@ final class AwsItem implements Item {
      * @param creds Credentials
      * @param tbl Table name
      * @param item Item name
+     * @param strong Are reads consistent?
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
-    AwsItem(final Credentials creds, final String tbl, final String item) {
+    AwsItem(final Credentials creds, final String tbl, final String item,
+        final boolean strong) {
         this.credentials = creds;
         this.table = tbl;
         this.label = item;
+        this.consistent = strong;
     }
 
     @Override
@@ -79,6 +102,22 @@ final class AwsItem implements Item {
         return this.label;
     }
 
+    @Override
+    public Item fresh() {
+        return new SnapshotItem(this, this.load().getAttributes());
+    }
+
+    @Override
+    public Item fresh(final Collection<String> names) {
+        final Item item;
+        if (names.isEmpty()) {
+            item = new SnapshotItem(this, Collections.<Attribute>emptyList());
+        } else {
+            item = new SnapshotItem(this, this.load(names).getAttributes());
+        }
+        return item;
+    }
+
     @Override
     public int size() {
         return this.entrySet().size();
@@ -91,7 +130,7 @@ final class AwsItem implements Item {
 
     @Override
     public boolean containsKey(final Object key) {
-        return this.keySet().contains(key);
+        return this.get(key) != null;
     }
 
     @Override
@@ -101,16 +140,43 @@ final class AwsItem implements Item {
 
     @Override
     public String get(final Object key) {
-        final Set<Map.Entry<String, String>> entries = this.entrySet();
         String value = null;
-        for (final Map.Entry<String, String> entry : entries) {
-            if (entry.getKey().equals(key)) {
-                value = entry.getValue();
+        if (key instanceof String) {
+            final List<String> values = this.all(key.toString());
+            if (!values.isEmpty()) {
+                value = values.get(0);
             }
         }
         return value;
     }
 
+    @Override
+    public List<String> all(final String name) {
+        final GetAttributesResult result =
+            this.load(Collections.singleton(name));
+        final List<String> values =
+            new ArrayList<>(result.getAttributes().size());
+        for (final Attribute attr : result.getAttributes()) {
+            values.add(attr.getValue());
+        }
+        return values;
+    }
+
+    @Override
+    public void append(final String name, final Collection<String> values) {
+        final Collection<ReplaceableAttribute> attrs =
+            new ArrayList<>(values.size());
+        for (final String value : values) {
+            attrs.add(
+                new ReplaceableAttribute()
+                    .withName(name)
+                    .withValue(value)
+                    .withReplace(false)
+            );
+        }
+        this.write(attrs);
+    }
+
     @Override
     public String put(final String key, final String value) {
         final String before = this.get(key);
@@ -124,12 +190,7 @@ final class AwsItem implements Item {
     @Override
     public String remove(final Object key) {
         final String before = this.get(key);
-        this.credentials.aws().deleteAttributes(
-            new DeleteAttributesRequest()
-                .withDomainName(this.table)
-                .withItemName(this.label)
-                .withAttributes(new Attribute().withName(key.toString()))
-        );
+        this.delete(key.toString());
         return before;
     }
 
@@ -145,12 +206,53 @@ final class AwsItem implements Item {
                     .withReplace(true)
             );
         }
-        this.credentials.aws().putAttributes(
-            new PutAttributesRequest()
-                .withDomainName(this.table)
-                .withItemName(this.label)
-                .withAttributes(attrs)
-        );
+        this.write(attrs);
+    }
+
+    @Override
+    public void putAll(final Map<String, String> map,
+        final Condition condition) {
+        final Collection<ReplaceableAttribute> attrs =
+            new ArrayList<>(map.size());
+        for (final Map.Entry<String, String> entry : map.entrySet()) {
+            attrs.add(
+                new ReplaceableAttribute()
+                    .withName(entry.getKey())
+                    .withValue(entry.getValue())
+                    .withReplace(true)
+            );
+        }
+        try {
+            this.credentials.aws().putAttributes(
+                new PutAttributesRequest()
+                    .withDomainName(this.table)
+                    .withItemName(this.label)
+                    .withAttributes(attrs)
+                    .withExpected(condition.aws())
+            );
+        } catch (final AmazonServiceException ex) {
+            throw this.conflict(ex, condition);
+        }
+    }
+
+    @Override
+    public void delete(final Collection<String> names,
+        final Condition condition) {
+        final Collection<Attribute> attrs = new ArrayList<>(names.size());
+        for (final String name : names) {
+            attrs.add(new Attribute().withName(name));
+        }
+        try {
+            this.credentials.aws().deleteAttributes(
+                new DeleteAttributesRequest()
+                    .withDomainName(this.table)
+                    .withItemName(this.label)
+                    .withAttributes(attrs)
+                    .withExpected(condition.aws())
+            );
+        } catch (final AmazonServiceException ex) {
+            throw this.conflict(ex, condition);
+        }
     }
 
     @Override
@@ -184,21 +286,88 @@ final class AwsItem implements Item {
 
     @Override
     public Set<Map.Entry<String, String>> entrySet() {
-        final GetAttributesResult result = this.credentials.aws().getAttributes(
-            new GetAttributesRequest()
-                .withConsistentRead(true)
+        final GetAttributesResult result = this.load();
+        final Map<String, String> first = new LinkedHashMap<>(0);
+        for (final Attribute attr : result.getAttributes()) {
+            first.putIfAbsent(attr.getName(), attr.getValue());
+        }
+        final Set<Map.Entry<String, String>> entries =
+            new HashSet<>(first.size());
+        for (final Map.Entry<String, String> entry : first.entrySet()) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+        }
+        return entries;
+    }
+
+    /**
+     * Delete one attribute, without reading it first.
+     * @param key Name of the attribute
+     */
+    void delete(final String key) {
+        this.credentials.aws().deleteAttributes(
+            new DeleteAttributesRequest()
                 .withDomainName(this.table)
                 .withItemName(this.label)
+                .withAttributes(new Attribute().withName(key))
         );
-        final Set<Map.Entry<String, String>> entries =
-            new HashSet<>(0);
-        for (final Attribute attr : result.getAttributes()) {
-            entries.add(
-                new AbstractMap.SimpleImmutableEntry<>(
-                    attr.getName(), attr.getValue()
-                )
+    }
+
+    /**
+     * Convert an error of a conditional write to a conflict, if it is one.
+     * @param error Error reported by SimpleDB
+     * @param condition Condition of the write
+     * @return Exception to throw
+     */
+    private RuntimeException conflict(final AmazonServiceException error,
+        final Condition condition) {
+        final RuntimeException exception;
+        if (AwsItem.CONFLICTS.contains(error.getErrorCode())) {
+            exception = new ConflictException(
+                String.format(
+                    "%s in %s wasn't written, expected %s",
+                    this.label, this.table, condition
+                ),
+                error
             );
+        } else {
+            exception = error;
         }
-        return entries;
+        return exception;
+    }
+
+    /**
+     * Put attributes to SimpleDB.
+     * @param attrs Attributes to put
+     */
+    private void write(final Collection<ReplaceableAttribute> attrs) {
+        this.credentials.aws().putAttributes(
+            new PutAttributesRequest()
+                .withDomainName(this.table)
+                .withItemName(this.label)
+                .withAttributes(attrs)
+        );
+    }
+
+    /**
+     * Load all attributes from SimpleDB.
+     * @return Result with attributes
+     */
+    private GetAttributesResult load() {
+        return this.load(Collections.emptyList());
+    }
+
+    /**
+     * Load some attributes from SimpleDB.
+     * @param names Names of attributes to load, all if empty
+     * @return Result with attributes
+     */
+    private GetAttributesResult load(final Collection<String> names) {
+        return this.credentials.aws().getAttributes(
+            new GetAttributesRequest()
+                .withConsistentRead(this.consistent)
+                .withDomainName(this.table)
+                .withItemName(this.label)
+                .withAttributeNames(names)
+        );
     }
 }
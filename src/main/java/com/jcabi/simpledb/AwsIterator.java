@@ -6,18 +6,25 @@ package com.jcabi.simpledb;
 
 import com.amazonaws.services.simpledb.model.SelectRequest;
 import com.amazonaws.services.simpledb.model.SelectResult;
-import com.jcabi.aspects.Loggable;
+import java.io.Closeable;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import lombok.EqualsAndHashCode;
 
 /**
  * Iterator of items in SimpleDB.
+ *
+ * <p>Items of a page are walked by a cursor, the page itself is never
+ * changed. Box usage includes all pages fetched so far, including
+ * the pages fetched ahead, in background. Once closed, the iterator
+ * has no more items and fetches no more pages.
+ *
  * @since 0.1
  */
-@Loggable(Loggable.DEBUG)
 @EqualsAndHashCode(of = { "credentials", "table" })
-final class AwsIterator implements Iterator<Item> {
+final class AwsIterator implements Iterator<Item>, Usage, Closeable {
 
     /**
      * AWS credentials.
@@ -30,14 +37,29 @@ final class AwsIterator implements Iterator<Item> {
     private final transient String table;
 
     /**
-     * Select request.
+     * Pages of the result.
      */
-    private final transient SelectRequest request;
+    private final transient Iterator<SelectResult> pages;
 
     /**
-     * Most recent result.
+     * Box usage of the pages.
      */
-    private transient SelectResult result;
+    private final transient Usage usage;
+
+    /**
+     * Items of the most recent page.
+     */
+    private transient List<com.amazonaws.services.simpledb.model.Item> items;
+
+    /**
+     * Position of the next item in the page.
+     */
+    private transient int cursor;
+
+    /**
+     * Is it closed?
+     */
+    private transient boolean closed;
 
     /**
      * Public ctor.
@@ -47,22 +69,52 @@ final class AwsIterator implements Iterator<Item> {
      */
     AwsIterator(final Credentials creds, final String name,
         final SelectRequest req) {
+        this(creds, name, req, 0);
+    }
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     * @param name Domain name
+     * @param req Request
+     * @param depth How many pages to fetch ahead, in background
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    AwsIterator(final Credentials creds, final String name,
+        final SelectRequest req, final int depth) {
+        this(creds, name, new AwsPages(creds, req), depth);
+    }
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     * @param name Domain name
+     * @param pgs Pages of the result
+     * @param depth How many pages to fetch ahead, in background
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private AwsIterator(final Credentials creds, final String name,
+        final AwsPages pgs, final int depth) {
         this.credentials = creds;
         this.table = name;
-        this.request = req;
+        this.pages = AwsIterator.ahead(pgs, depth);
+        this.usage = pgs;
+        this.items = Collections.emptyList();
+    }
+
+    @Override
+    public double boxUsage() {
+        return this.usage.boxUsage();
     }
 
     @Override
     public boolean hasNext() {
-        if (this.result == null) {
-            this.result = this.credentials.aws().select(this.request);
-        } else if (this.result.getItems().isEmpty()
-            && this.result.getNextToken() != null) {
-            this.result = this.credentials.aws().select(
-                this.request.withNextToken(this.result.getNextToken())
-            );
+        while (!this.closed && this.cursor >= this.items.size()
+            && this.pages.hasNext()) {
+            this.items = this.pages.next().getItems();
+            this.cursor = 0;
         }
-        return !this.result.getItems().isEmpty();
+        return this.cursor < this.items.size();
     }
 
     @Override
@@ -70,10 +122,12 @@ final class AwsIterator implements Iterator<Item> {
         if (!this.hasNext()) {
             throw new NoSuchElementException();
         }
-        return new AwsItem(
-            this.credentials,
-            this.table,
-            this.result.getItems().remove(0)
+        final com.amazonaws.services.simpledb.model.Item item =
+            this.items.get(this.cursor);
+        ++this.cursor;
+        return new SnapshotItem(
+            new AwsItem(this.credentials, this.table, item.getName()),
+            item.getAttributes()
         );
     }
 
@@ -81,4 +135,29 @@ final class AwsIterator implements Iterator<Item> {
     public void remove() {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public void close() {
+        this.items = Collections.emptyList();
+        this.cursor = 0;
+        this.closed = true;
+        if (this.pages instanceof PrefetchedPages) {
+            PrefetchedPages.class.cast(this.pages).close();
+        }
+    }
+
+    /**
+     * Fetch pages ahead, if necessary.
+     * @param pgs Pages of the result
+     * @param depth How many pages to fetch ahead, in background
+     * @return Pages
+     */
+    private static Iterator<SelectResult> ahead(
+        final Iterator<SelectResult> pgs, final int depth) {
+        Iterator<SelectResult> pages = pgs;
+        if (depth > 0) {
+            pages = new PrefetchedPages(pages, depth);
+        }
+        return pages;
+    }
 }
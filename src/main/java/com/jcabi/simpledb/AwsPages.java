@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.amazonaws.services.simpledb.model.SelectResult;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.DoubleAdder;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Pages of a select result in SimpleDB, fetched one by one.
+ *
+ * <p>Every call to {@link #next()} fetches the next page, following
+ * the token of the previous one. The request provided is never
+ * changed. Box usage of all pages fetched is summed up.
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = { "credentials", "request" })
+final class AwsPages implements Iterator<SelectResult>, Usage {
+
+    /**
+     * AWS credentials.
+     */
+    private final transient Credentials credentials;
+
+    /**
+     * Select request.
+     */
+    private final transient SelectRequest request;
+
+    /**
+     * Box usage of pages fetched.
+     */
+    private final transient DoubleAdder usage;
+
+    /**
+     * Token of the next page, or NULL if there are no more pages.
+     */
+    private transient String token;
+
+    /**
+     * Was the first page fetched already?
+     */
+    private transient boolean started;
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     * @param req Request
+     */
+    AwsPages(final Credentials creds, final SelectRequest req) {
+        this.credentials = creds;
+        this.request = req;
+        this.usage = new DoubleAdder();
+    }
+
+    @Override
+    public double boxUsage() {
+        return this.usage.sum();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.started || this.token != null;
+    }
+
+    @Override
+    public SelectResult next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final AmazonSimpleDB aws = this.credentials.aws();
+        final SelectRequest req =
+            this.request.clone().withNextToken(this.token);
+        final SelectResult page = aws.select(req);
+        this.usage.add(new BoxUsage(aws).of(req));
+        this.started = true;
+        this.token = page.getNextToken();
+        return page;
+    }
+}
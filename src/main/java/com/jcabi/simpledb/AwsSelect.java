@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Items selected from SimpleDB.
+ *
+ * <p>Every call to {@link #iterator()} runs the select again.
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = { "credentials", "table", "request", "depth" })
+final class AwsSelect implements Iterable<Item> {
+
+    /**
+     * AWS credentials.
+     */
+    private final transient Credentials credentials;
+
+    /**
+     * Domain name.
+     */
+    private final transient String table;
+
+    /**
+     * Select request.
+     */
+    private final transient SelectRequest request;
+
+    /**
+     * How many pages to fetch ahead, in background.
+     */
+    private final transient int depth;
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     * @param name Domain name
+     * @param req Request
+     * @param pages How many pages to fetch ahead, zero to disable
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    AwsSelect(final Credentials creds, final String name,
+        final SelectRequest req, final int pages) {
+        this.credentials = creds;
+        this.table = name;
+        this.request = req;
+        this.depth = pages;
+    }
+
+    @Override
+    public String toString() {
+        return this.request.getSelectExpression();
+    }
+
+    @Override
+    public Iterator<Item> iterator() {
+        return new AwsIterator(
+            this.credentials, this.table, this.request, this.depth
+        );
+    }
+
+    @Override
+    public Spliterator<Item> spliterator() {
+        return Spliterators.spliteratorUnknownSize(
+            this.iterator(), Spliterator.ORDERED | Spliterator.NONNULL
+        );
+    }
+
+    /**
+     * Run the select and stream its items.
+     *
+     * <p>The stream fetches pages only when it needs them and stops
+     * fetching ahead when closed.
+     *
+     * @return Items
+     */
+    Stream<Item> stream() {
+        final AwsIterator items = new AwsIterator(
+            this.credentials, this.table, this.request, this.depth
+        );
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                items, Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            false
+        ).onClose(items::close);
+    }
+}
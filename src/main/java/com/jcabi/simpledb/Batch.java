@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import java.util.Collection;
+import java.util.Map;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Batch of writes to a SimpleDB domain.
+ *
+ * <p>Writes are accumulated and sent to SimpleDB with
+ * {@code BatchPutAttributes} and {@code BatchDeleteAttributes} calls,
+ * up to 25 items per call. Don't forget to call {@link #flush()} at the
+ * end, for example:
+ *
+ * <pre> Batch batch = domain.batch(Runnable::run);
+ * for (Employee employee : employees) {
+ *   batch.put(employee.id(), employee.attributes());
+ * }
+ * Map&lt;String, Exception&gt; failed = batch.flush();</pre>
+ *
+ * <p>Writes to the same item are merged, but puts and deletes are sent
+ * separately and may come to SimpleDB in any order. Don't put and delete
+ * the same item in one batch. The object is not thread-safe.
+ *
+ * @since 1.0
+ */
+public interface Batch {
+
+    /**
+     * Put attributes to the item, replacing their existing values.
+     * @param item Name of the item
+     * @param attrs Attributes to put
+     */
+    void put(@NotNull String item,
+        @NotNull Map<? extends String, ? extends String> attrs);
+
+    /**
+     * Delete the item entirely.
+     * @param item Name of the item
+     */
+    void delete(@NotNull String item);
+
+    /**
+     * Delete some attributes of the item.
+     * @param item Name of the item
+     * @param attrs Names of attributes to delete
+     */
+    void delete(@NotNull String item, @NotNull Collection<String> attrs);
+
+    /**
+     * Send all pending writes and wait until they are done.
+     * @return Items failed since the previous flush, by their names
+     */
+    @NotNull(message = "map of failures is never NULL")
+    Map<String, Exception> flush();
+}
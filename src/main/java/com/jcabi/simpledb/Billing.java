@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import java.util.function.Supplier;
+
+/**
+ * Interceptor, which reports box usage of every successful call.
+ *
+ * @since 1.0
+ */
+final class Billing implements Interceptor {
+
+    /**
+     * Listener to report to.
+     */
+    private final transient Usage.Listener listener;
+
+    /**
+     * Box usage of calls.
+     */
+    private final transient BoxUsage usage;
+
+    /**
+     * Ctor.
+     * @param lstr Listener to report to
+     * @param aws Client making calls
+     */
+    Billing(final Usage.Listener lstr, final AmazonSimpleDB aws) {
+        this.listener = lstr;
+        this.usage = new BoxUsage(aws);
+    }
+
+    @Override
+    public <T> T intercept(final String action, final String domain,
+        final AmazonWebServiceRequest request, final Supplier<T> call) {
+        final T result = call.get();
+        this.listener.used(action, domain, request, this.usage.of(request));
+        return result;
+    }
+}
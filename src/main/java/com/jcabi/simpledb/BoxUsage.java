@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.AmazonSimpleDBClient;
+import com.amazonaws.services.simpledb.SimpleDBResponseMetadata;
+
+/**
+ * Box usage of calls made by a client, read from its response metadata.
+ *
+ * <p>AWS client keeps metadata of a few most recent responses, by their
+ * requests, that's why the usage must be read right after the call,
+ * with the same request object. Clients other than AWS ones report
+ * zero usage.
+ *
+ * @since 1.0
+ */
+final class BoxUsage {
+
+    /**
+     * The client.
+     */
+    private final transient AmazonSimpleDB client;
+
+    /**
+     * Ctor.
+     * @param aws The client
+     */
+    BoxUsage(final AmazonSimpleDB aws) {
+        this.client = aws;
+    }
+
+    /**
+     * Get box usage of the call just made.
+     * @param request Request of the call
+     * @return Machine hours or zero if unknown
+     */
+    double of(final AmazonWebServiceRequest request) {
+        AmazonSimpleDB aws = this.client;
+        while (aws instanceof InterceptedClient) {
+            aws = InterceptedClient.class.cast(aws).origin();
+        }
+        double usage = 0.0d;
+        if (aws instanceof AmazonSimpleDBClient) {
+            final SimpleDBResponseMetadata meta = AmazonSimpleDBClient.class
+                .cast(aws).getCachedResponseMetadata(request);
+            if (meta != null) {
+                usage = (double) meta.getBoxUsage();
+            }
+        }
+        return usage;
+    }
+}
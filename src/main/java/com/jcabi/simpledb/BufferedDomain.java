@@ -0,0 +1,474 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.jcabi.log.Logger;
+import com.jcabi.log.VerboseThreads;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Domain, which buffers puts to its items and writes them behind.
+ *
+ * <p>Puts to the same item are merged in memory, the latest value of an
+ * attribute wins, and sent to SimpleDB later, in batches, when too many
+ * items are pending or when the time is up, whatever comes first. Call
+ * {@link #close()} at the end, for example:
+ *
+ * <pre> try (BufferedDomain domain = new BufferedDomain(
+ *   region.domain("counters"), 1000, 500L
+ * )) {
+ *   Item item = domain.item("page-views");
+ *   item.put("total", Long.toString(total));
+ * }</pre>
+ *
+ * <p>Items read their own pending puts, also while they are being sent,
+ * until SimpleDB confirms them. {@link Item#put(Object, Object)} returns
+ * the value pending before, or NULL, without reading SimpleDB. All other
+ * writes to an item,
+ * including deletes, appends and conditional writes, first send its
+ * pending puts and then go to SimpleDB directly, in order. Selects and
+ * other clients don't see pending puts until they are flushed.
+ *
+ * <p>Memory is bounded: items pending and items being sent together
+ * never exceed the limit. When the limit is reached, pending items are
+ * flushed in the calling thread, and if some of them can't be flushed,
+ * new puts go to SimpleDB directly. Items that failed to flush stay
+ * pending and are retried with the next flush.
+ *
+ * <p>An item pending never has more than 256 attributes or more than
+ * 1 MB of names and values, which SimpleDB accepts in one call. A put
+ * which would make it bigger first flushes the domain, and goes to
+ * SimpleDB directly if it's still too big. An item which a batch
+ * rejects anyway is not retried, since it would never be accepted,
+ * and is reported by {@link #flush()}.
+ *
+ * <p>The object is thread-safe.
+ *
+ * @since 1.0
+ */
+public final class BufferedDomain implements Domain, Flushable, Closeable {
+
+    /**
+     * Timer flushing domains, shared by all of them.
+     */
+    private static final ScheduledExecutorService TIMER =
+        Executors.newSingleThreadScheduledExecutor(
+            new VerboseThreads("simpledb-flush")
+        );
+
+    /**
+     * Maximum number of attributes of one item pending.
+     */
+    private static final int ATTRS = 256;
+
+    /**
+     * Maximum size of one item pending, in bytes.
+     */
+    private static final long BYTES = 1L << 20;
+
+    /**
+     * Original domain.
+     */
+    private final transient Domain origin;
+
+    /**
+     * Maximum number of items pending.
+     */
+    private final transient int limit;
+
+    /**
+     * Pending puts, by item names.
+     */
+    private final transient Map<String, Map<String, String>> pending;
+
+    /**
+     * Puts being sent, by item names, guarded by the lock of pending.
+     */
+    private final transient Map<String, Map<String, String>> flight;
+
+    /**
+     * Lock, held while pending puts are being sent.
+     */
+    private final transient Object sending;
+
+    /**
+     * Periodic flush, or NULL if there is none.
+     */
+    private final transient ScheduledFuture<?> timer;
+
+    /**
+     * Public ctor.
+     * @param domain Original domain
+     * @param items Maximum number of items pending
+     * @param millis How often to flush, in milliseconds, zero to never
+     */
+    public BufferedDomain(@NotNull(message = "domain can't be NULL")
+        final Domain domain, final int items, final long millis) {
+        this.origin = domain;
+        this.limit = items;
+        this.pending = new LinkedHashMap<>(0);
+        this.flight = new LinkedHashMap<>(0);
+        this.sending = new Object();
+        if (millis > 0L) {
+            this.timer = BufferedDomain.TIMER.scheduleWithFixedDelay(
+                this::drain, millis, millis, TimeUnit.MILLISECONDS
+            );
+        } else {
+            this.timer = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("buffered %s", this.origin);
+    }
+
+    @Override
+    public void create() {
+        this.origin.create();
+    }
+
+    @Override
+    public void drop() {
+        synchronized (this.sending) {
+            synchronized (this.pending) {
+                this.pending.clear();
+                this.flight.clear();
+            }
+            this.origin.drop();
+        }
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Item item(final String name) {
+        return new BufferedItem(this, this.origin.item(name));
+    }
+
+    @Override
+    public Item item(final String name, final Consistency consistency) {
+        return new BufferedItem(this, this.origin.item(name, consistency));
+    }
+
+    @Override
+    public Iterable<Item> select(final SelectRequest request) {
+        return this.origin.select(request);
+    }
+
+    @Override
+    public Stream<Item> stream(final SelectRequest request, final long limit) {
+        return this.origin.stream(request, limit);
+    }
+
+    @Override
+    public long count(final SelectRequest request) {
+        return this.origin.count(request);
+    }
+
+    @Override
+    public Metadata metadata() {
+        return this.origin.metadata();
+    }
+
+    @Override
+    public Batch batch(final Executor executor) {
+        return this.origin.batch(executor);
+    }
+
+    /**
+     * Send all pending puts and wait until they are done.
+     * @throws IOException If some items failed, they stay pending, or
+     *  were rejected and dropped
+     */
+    @Override
+    public void flush() throws IOException {
+        final Map<String, Exception> failed = new LinkedHashMap<>(0);
+        synchronized (this.sending) {
+            final Map<String, Map<String, String>> puts;
+            synchronized (this.pending) {
+                puts = new LinkedHashMap<>(this.pending);
+                this.flight.putAll(puts);
+                this.pending.clear();
+            }
+            if (!puts.isEmpty()) {
+                final Map<String, Exception> rejected =
+                    new LinkedHashMap<>(0);
+                final Batch batch = this.origin.batch(Runnable::run);
+                try {
+                    for (final Map.Entry<String, Map<String, String>> put
+                        : puts.entrySet()) {
+                        try {
+                            batch.put(put.getKey(), put.getValue());
+                        } catch (final IllegalArgumentException ex) {
+                            rejected.put(put.getKey(), ex);
+                        }
+                    }
+                    failed.putAll(batch.flush());
+                } catch (final RuntimeException ex) {
+                    puts.keySet().removeAll(rejected.keySet());
+                    this.restore(puts.keySet());
+                    throw ex;
+                }
+                this.restore(failed.keySet());
+                failed.putAll(rejected);
+            }
+        }
+        if (!failed.isEmpty()) {
+            throw new IOException(
+                String.format(
+                    "%d item(s) of %s failed to flush, e.g. %s",
+                    failed.size(), this.origin.name(),
+                    failed.keySet().iterator().next()
+                ),
+                failed.values().iterator().next()
+            );
+        }
+    }
+
+    /**
+     * Stop the periodic flush and send all pending puts.
+     * @throws IOException If some items failed to flush
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.timer != null) {
+            this.timer.cancel(false);
+        }
+        this.flush();
+    }
+
+    /**
+     * Get pending value of the attribute.
+     * @param item Name of the item
+     * @param attr Name of the attribute
+     * @return Value or NULL if nothing is pending
+     */
+    String buffered(final String item, final String attr) {
+        synchronized (this.pending) {
+            String value = BufferedDomain.value(this.pending, item, attr);
+            if (value == null) {
+                value = BufferedDomain.value(this.flight, item, attr);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Get pending attributes of the item.
+     * @param item Name of the item
+     * @return Attributes, empty if nothing is pending
+     */
+    Map<String, String> buffered(final String item) {
+        synchronized (this.pending) {
+            final Map<String, String> copy = new LinkedHashMap<>(0);
+            final Map<String, String> sent = this.flight.get(item);
+            if (sent != null) {
+                copy.putAll(sent);
+            }
+            final Map<String, String> attrs = this.pending.get(item);
+            if (attrs != null) {
+                copy.putAll(attrs);
+            }
+            return copy;
+        }
+    }
+
+    /**
+     * Buffer a put to the item.
+     * @param item The item
+     * @param attrs Attributes to put
+     */
+    void put(final Item item,
+        final Map<? extends String, ? extends String> attrs) {
+        if (!this.offer(item.name(), attrs)) {
+            this.drain();
+            if (!this.offer(item.name(), attrs)) {
+                this.write(item, () -> item.putAll(attrs));
+            }
+        }
+    }
+
+    /**
+     * Send pending puts of the item, right now.
+     * @param item The item
+     */
+    void send(final Item item) {
+        synchronized (this.sending) {
+            this.push(item);
+        }
+    }
+
+    /**
+     * Send pending puts of the item, right now, and run the write.
+     * @param item The item
+     * @param write Write to run after pending puts, directly
+     */
+    void write(final Item item, final Runnable write) {
+        synchronized (this.sending) {
+            this.push(item);
+            write.run();
+        }
+    }
+
+    /**
+     * Add attributes to pending puts, if there is room.
+     * @param item Name of the item
+     * @param attrs Attributes to put
+     * @return TRUE if added, FALSE if too many items are pending, or
+     *  the item would become too big
+     */
+    private boolean offer(final String item,
+        final Map<? extends String, ? extends String> attrs) {
+        synchronized (this.pending) {
+            final Map<String, String> before = this.pending.get(item);
+            final Map<String, String> after = new LinkedHashMap<>(0);
+            final Map<String, String> sent = this.flight.get(item);
+            if (sent != null) {
+                after.putAll(sent);
+            }
+            if (before != null) {
+                after.putAll(before);
+            }
+            after.putAll(attrs);
+            final boolean room;
+            if (after.size() > BufferedDomain.ATTRS
+                || BufferedDomain.size(item, after) > BufferedDomain.BYTES) {
+                room = false;
+            } else if (before != null) {
+                before.putAll(attrs);
+                room = true;
+            } else if (this.pending.size() + this.flight.size()
+                < this.limit) {
+                this.pending.put(item, new LinkedHashMap<>(attrs));
+                room = true;
+            } else {
+                room = false;
+            }
+            return room;
+        }
+    }
+
+    /**
+     * Send pending puts of the item, while the caller holds the lock.
+     * @param item The item
+     */
+    private void push(final Item item) {
+        final Map<String, String> attrs;
+        synchronized (this.pending) {
+            attrs = this.pending.remove(item.name());
+            if (attrs != null) {
+                this.flight.put(item.name(), attrs);
+            }
+        }
+        if (attrs != null) {
+            try {
+                item.putAll(attrs);
+            } catch (final RuntimeException ex) {
+                this.restore(Collections.singleton(item.name()));
+                throw ex;
+            }
+            this.restore(Collections.<String>emptySet());
+        }
+    }
+
+    /**
+     * Finish sending: return failed puts back to pending, under newer
+     * puts, and forget all other puts sent.
+     *
+     * <p>Items sent were counted against the limit, together with items
+     * pending, that's why returning them never exceeds the limit.
+     *
+     * @param failed Names of items failed
+     */
+    private void restore(final Collection<String> failed) {
+        synchronized (this.pending) {
+            for (final String name : failed) {
+                final Map<String, String> attrs =
+                    new LinkedHashMap<>(this.flight.get(name));
+                final Map<String, String> newer = this.pending.get(name);
+                if (newer != null) {
+                    attrs.putAll(newer);
+                }
+                this.pending.put(name, attrs);
+            }
+            this.flight.clear();
+        }
+    }
+
+    /**
+     * Get value of the attribute from the puts.
+     * @param puts Puts by item names
+     * @param item Name of the item
+     * @param attr Name of the attribute
+     * @return Value or NULL if there is no such put
+     */
+    private static String value(final Map<String, Map<String, String>> puts,
+        final String item, final String attr) {
+        final Map<String, String> attrs = puts.get(item);
+        String value = null;
+        if (attrs != null) {
+            value = attrs.get(attr);
+        }
+        return value;
+    }
+
+    /**
+     * Count bytes of the names and values of the item.
+     * @param item Name of the item
+     * @param attrs Attributes
+     * @return Bytes
+     */
+    private static long size(final String item,
+        final Map<String, String> attrs) {
+        long size = BufferedDomain.length(item);
+        for (final Map.Entry<String, String> attr : attrs.entrySet()) {
+            size += BufferedDomain.length(attr.getKey())
+                + BufferedDomain.length(attr.getValue());
+        }
+        return size;
+    }
+
+    /**
+     * Count bytes of the text, in UTF-8.
+     * @param text The text
+     * @return Bytes
+     */
+    private static long length(final String text) {
+        return (long) text.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Flush, without reporting failures, which stay pending, when
+     * puts are buffered or the time is up.
+     */
+    private void drain() {
+        try {
+            this.flush();
+        } catch (final IOException ex) {
+            Logger.warn(this, "%s, pending ones are retried", ex.getMessage());
+        } catch (final RuntimeException ex) {
+            Logger.warn(this, "Failed to flush %s: %[exception]s", this, ex);
+        }
+    }
+}
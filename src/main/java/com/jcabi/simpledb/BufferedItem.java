@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Item of {@link BufferedDomain}, which buffers its puts.
+ *
+ * <p>Reads see the puts pending, on top of the attributes in SimpleDB.
+ * {@link #put(String, String)} returns the value pending before, or NULL
+ * if nothing was pending, without reading SimpleDB.
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+final class BufferedItem implements Item {
+
+    /**
+     * Domain, which buffers puts.
+     */
+    private final transient BufferedDomain domain;
+
+    /**
+     * Original item.
+     */
+    private final transient Item origin;
+
+    /**
+     * Public ctor.
+     * @param dmn Domain, which buffers puts
+     * @param item Original item
+     */
+    BufferedItem(final BufferedDomain dmn, final Item item) {
+        this.domain = dmn;
+        this.origin = item;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Item fresh() {
+        this.domain.send(this.origin);
+        return this.origin.fresh();
+    }
+
+    @Override
+    public Item fresh(final Collection<String> names) {
+        this.domain.send(this.origin);
+        return this.origin.fresh(names);
+    }
+
+    @Override
+    public int size() {
+        return this.attrs().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.attrs().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.get(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.attrs().containsValue(value);
+    }
+
+    @Override
+    public String get(final Object key) {
+        String value = null;
+        if (key instanceof String) {
+            value = this.domain.buffered(this.origin.name(), key.toString());
+            if (value == null) {
+                value = this.origin.get(key);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public List<String> all(final String name) {
+        this.domain.send(this.origin);
+        return this.origin.all(name);
+    }
+
+    @Override
+    public void append(final String name, final Collection<String> values) {
+        this.domain.write(this.origin, () -> this.origin.append(name, values));
+    }
+
+    @Override
+    public String put(final String key, final String value) {
+        final String before = this.domain.buffered(this.origin.name(), key);
+        this.putAll(Collections.singletonMap(key, value));
+        return before;
+    }
+
+    @Override
+    public String remove(final Object key) {
+        final String before = this.get(key);
+        this.domain.write(this.origin, () -> this.origin.remove(key));
+        return before;
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends String> map) {
+        this.domain.put(this.origin, map);
+    }
+
+    @Override
+    public void putAll(final Map<String, String> map,
+        final Condition condition) {
+        this.domain.write(
+            this.origin, () -> this.origin.putAll(map, condition)
+        );
+    }
+
+    @Override
+    public void delete(final Collection<String> names,
+        final Condition condition) {
+        this.domain.write(
+            this.origin, () -> this.origin.delete(names, condition)
+        );
+    }
+
+    @Override
+    public void clear() {
+        this.domain.write(this.origin, this.origin::clear);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(this.attrs().keySet());
+    }
+
+    @Override
+    public Collection<String> values() {
+        return Collections.unmodifiableCollection(this.attrs().values());
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return Collections.unmodifiableMap(this.attrs()).entrySet();
+    }
+
+    /**
+     * Get attributes from SimpleDB, with pending puts on top of them.
+     * @return Attributes
+     */
+    private Map<String, String> attrs() {
+        final Map<String, String> map =
+            new LinkedHashMap<>(this.origin.fresh());
+        map.putAll(this.domain.buffered(this.origin.name()));
+        return map;
+    }
+}
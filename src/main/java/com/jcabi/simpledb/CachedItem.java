@@ -0,0 +1,243 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Item that loads its attributes once and keeps them in memory.
+ *
+ * <p>Attributes are loaded by the first read. All other reads are
+ * served from memory. Writes go to SimpleDB and are applied
+ * to the attributes in memory too, if they are loaded already.
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+final class CachedItem implements Item {
+
+    /**
+     * Original item.
+     */
+    private final transient AwsItem origin;
+
+    /**
+     * Attributes loaded with all their values, or NULL if not loaded yet.
+     */
+    private final transient
+        AtomicReference<ConcurrentMap<String, List<String>>> cache;
+
+    /**
+     * Public ctor.
+     * @param item Original item
+     */
+    CachedItem(final AwsItem item) {
+        this.origin = item;
+        this.cache = new AtomicReference<>();
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Item fresh() {
+        return this.origin.fresh();
+    }
+
+    @Override
+    public Item fresh(final Collection<String> names) {
+        return this.origin.fresh(names);
+    }
+
+    @Override
+    public int size() {
+        return this.attrs().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.attrs().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && this.attrs().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.first().containsValue(value);
+    }
+
+    @Override
+    public String get(final Object key) {
+        String value = null;
+        if (key instanceof String) {
+            final List<String> values = this.attrs().get(key);
+            if (values != null) {
+                value = values.get(0);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public List<String> all(final String name) {
+        return this.attrs().getOrDefault(name, Collections.emptyList());
+    }
+
+    @Override
+    public void append(final String name, final Collection<String> values) {
+        this.origin.append(name, values);
+        final Map<String, List<String>> loaded = this.cache.get();
+        if (loaded != null && !values.isEmpty()) {
+            loaded.merge(
+                name, Collections.unmodifiableList(new ArrayList<>(values)),
+                (before, added) -> {
+                    final List<String> list =
+                        new ArrayList<>(before.size() + added.size());
+                    list.addAll(before);
+                    list.addAll(added);
+                    return Collections.unmodifiableList(list);
+                }
+            );
+        }
+    }
+
+    @Override
+    public String put(final String key, final String value) {
+        final String before = this.get(key);
+        this.putAll(Collections.singletonMap(key, value));
+        return before;
+    }
+
+    @Override
+    public String remove(final Object key) {
+        String before = null;
+        if (key instanceof String) {
+            before = this.get(key);
+            this.origin.delete(key.toString());
+            this.attrs().remove(key);
+        }
+        return before;
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends String> map) {
+        this.origin.putAll(map);
+        this.remember(map);
+    }
+
+    @Override
+    public void putAll(final Map<String, String> map,
+        final Condition condition) {
+        this.origin.putAll(map, condition);
+        this.remember(map);
+    }
+
+    @Override
+    public void delete(final Collection<String> names,
+        final Condition condition) {
+        this.origin.delete(names, condition);
+        if (names.isEmpty()) {
+            this.cache.set(new ConcurrentHashMap<>(0));
+        } else {
+            final Map<String, List<String>> loaded = this.cache.get();
+            if (loaded != null) {
+                loaded.keySet().removeAll(names);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        this.origin.clear();
+        this.cache.set(new ConcurrentHashMap<>(0));
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(this.attrs().keySet());
+    }
+
+    @Override
+    public Collection<String> values() {
+        return Collections.unmodifiableCollection(this.first().values());
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return Collections.unmodifiableMap(this.first()).entrySet();
+    }
+
+    /**
+     * Apply attributes written to the attributes in memory, if loaded.
+     * @param map Attributes written
+     */
+    private void remember(final Map<? extends String, ? extends String> map) {
+        final Map<String, List<String>> loaded = this.cache.get();
+        if (loaded != null) {
+            for (final Map.Entry<? extends String, ? extends String> entry
+                : map.entrySet()) {
+                loaded.put(
+                    entry.getKey(),
+                    Collections.singletonList(entry.getValue())
+                );
+            }
+        }
+    }
+
+    /**
+     * Get first values of attributes, loading them if necessary.
+     * @return Attributes with their first values
+     */
+    private Map<String, String> first() {
+        final Map<String, List<String>> attrs = this.attrs();
+        final Map<String, String> map = new LinkedHashMap<>(attrs.size());
+        for (final Map.Entry<String, List<String>> entry : attrs.entrySet()) {
+            map.put(entry.getKey(), entry.getValue().get(0));
+        }
+        return map;
+    }
+
+    /**
+     * Get attributes, loading them if necessary.
+     * @return Attributes with all their values
+     */
+    private ConcurrentMap<String, List<String>> attrs() {
+        ConcurrentMap<String, List<String>> map = this.cache.get();
+        if (map == null) {
+            synchronized (this.cache) {
+                map = this.cache.get();
+                if (map == null) {
+                    final Item item = this.origin.fresh();
+                    map = new ConcurrentHashMap<>(item.size());
+                    for (final String name : item.keySet()) {
+                        map.put(name, item.all(name));
+                    }
+                    this.cache.set(map);
+                }
+            }
+        }
+        return map;
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Domain, which keeps attributes of its items in memory.
+ *
+ * <p>The first read of an item loads all its attributes from SimpleDB,
+ * next reads are served from memory, until the attributes expire. Writes
+ * through the domain and its items go to SimpleDB and drop the item from
+ * memory, while writes made by others are not seen until expiration,
+ * for example:
+ *
+ * <pre> Domain domain = new CachingDomain(
+ *   region.domain("settings"), 1000, 1L &lt;&lt; 20, 60_000L
+ * );
+ * String host = domain.item("mail").get("host");</pre>
+ *
+ * <p>When there are more items than the limit, or they take more
+ * memory than allowed, least recently used items are evicted. Memory
+ * is estimated by the lengths of names and values. Selects are not
+ * cached. The object is thread-safe.
+ *
+ * @since 1.0
+ */
+public final class CachingDomain implements Domain {
+
+    /**
+     * Original domain.
+     */
+    private final transient Domain origin;
+
+    /**
+     * Maximum number of items in memory.
+     */
+    private final transient int items;
+
+    /**
+     * Maximum number of bytes in memory.
+     */
+    private final transient long bytes;
+
+    /**
+     * How long items live in memory, in nanoseconds.
+     */
+    private final transient long ttl;
+
+    /**
+     * Items in memory, least recently used first.
+     */
+    private final transient Map<String, CachingDomain.Entry> entries;
+
+    /**
+     * Bytes taken by items in memory.
+     */
+    private transient long weight;
+
+    /**
+     * Number of writes through the domain, to detect stale loads.
+     */
+    private final transient AtomicLong writes;
+
+    /**
+     * Reads served from memory.
+     */
+    private final transient AtomicLong hits;
+
+    /**
+     * Reads sent to SimpleDB.
+     */
+    private final transient AtomicLong misses;
+
+    /**
+     * Items evicted from memory, because of limits.
+     */
+    private final transient AtomicLong evictions;
+
+    /**
+     * Public ctor.
+     * @param domain Original domain
+     * @param max Maximum number of items in memory
+     * @param memory Maximum number of bytes in memory
+     * @param millis How long items live in memory, in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public CachingDomain(@NotNull(message = "domain can't be NULL")
+        final Domain domain, final int max, final long memory,
+        final long millis) {
+        this.origin = domain;
+        this.items = max;
+        this.bytes = memory;
+        this.ttl = TimeUnit.MILLISECONDS.toNanos(millis);
+        this.entries = new LinkedHashMap<>(0, 0.75f, true);
+        this.writes = new AtomicLong();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "cached %s, %d hits, %d misses, %d evictions",
+            this.origin, this.hits.get(), this.misses.get(),
+            this.evictions.get()
+        );
+    }
+
+    @Override
+    public void create() {
+        this.origin.create();
+    }
+
+    @Override
+    public void drop() {
+        this.writes.incrementAndGet();
+        this.origin.drop();
+        synchronized (this.entries) {
+            this.entries.clear();
+            this.weight = 0L;
+        }
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Item item(final String name) {
+        return new CachingItem(this, this.origin.item(name));
+    }
+
+    @Override
+    public Item item(final String name, final Consistency consistency) {
+        return new CachingItem(this, this.origin.item(name, consistency));
+    }
+
+    @Override
+    public Iterable<Item> select(final SelectRequest request) {
+        return this.origin.select(request);
+    }
+
+    @Override
+    public Stream<Item> stream(final SelectRequest request, final long limit) {
+        return this.origin.stream(request, limit);
+    }
+
+    @Override
+    public long count(final SelectRequest request) {
+        return this.origin.count(request);
+    }
+
+    @Override
+    public Metadata metadata() {
+        return this.origin.metadata();
+    }
+
+    @Override
+    public Batch batch(final Executor executor) {
+        return new CachingDomain.Forgetting(
+            this, this.origin.batch(executor)
+        );
+    }
+
+    /**
+     * Get number of reads served from memory.
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Get number of reads sent to SimpleDB.
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Get number of items evicted from memory, because of limits.
+     * @return Number of evictions
+     */
+    public long evictions() {
+        return this.evictions.get();
+    }
+
+    /**
+     * Get attributes of the item, from memory or from SimpleDB.
+     * @param item The item
+     * @return Item with all attributes in memory
+     */
+    Item attrs(final Item item) {
+        final String name = item.name();
+        final long now = System.nanoTime();
+        Item attrs = null;
+        synchronized (this.entries) {
+            final CachingDomain.Entry entry = this.entries.get(name);
+            if (entry != null) {
+                if (now - entry.born < this.ttl) {
+                    attrs = entry.attrs;
+                } else {
+                    this.remove(name);
+                }
+            }
+        }
+        if (attrs == null) {
+            this.misses.incrementAndGet();
+            attrs = this.load(item);
+        } else {
+            this.hits.incrementAndGet();
+        }
+        return attrs;
+    }
+
+    /**
+     * Load attributes of the item from SimpleDB and keep them in memory.
+     * @param item The item
+     * @return Item with all attributes in memory
+     */
+    Item load(final Item item) {
+        final long before = this.writes.get();
+        final Item attrs = item.fresh();
+        final CachingDomain.Entry entry = new CachingDomain.Entry(attrs);
+        synchronized (this.entries) {
+            if (this.writes.get() == before && entry.weight <= this.bytes) {
+                this.remove(item.name());
+                this.entries.put(item.name(), entry);
+                this.weight += entry.weight;
+                this.evict();
+            }
+        }
+        return attrs;
+    }
+
+    /**
+     * Drop the item from memory, since it is being changed.
+     * @param name Name of the item
+     */
+    void forget(final String name) {
+        this.writes.incrementAndGet();
+        synchronized (this.entries) {
+            this.remove(name);
+        }
+    }
+
+    /**
+     * Remove the item from memory, while holding the lock.
+     * @param name Name of the item
+     */
+    private void remove(final String name) {
+        final CachingDomain.Entry entry = this.entries.remove(name);
+        if (entry != null) {
+            this.weight -= entry.weight;
+        }
+    }
+
+    /**
+     * Evict least recently used items, while holding the lock.
+     */
+    private void evict() {
+        final Iterator<CachingDomain.Entry> iterator =
+            this.entries.values().iterator();
+        while (this.entries.size() > this.items || this.weight > this.bytes) {
+            this.weight -= iterator.next().weight;
+            iterator.remove();
+            this.evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Item in memory.
+     *
+     * @since 1.0
+     */
+    private static final class Entry {
+
+        /**
+         * Item with attributes loaded.
+         */
+        private final transient Item attrs;
+
+        /**
+         * When loaded, in nanoseconds.
+         */
+        private final transient long born;
+
+        /**
+         * Bytes taken, approximately.
+         */
+        private final transient long weight;
+
+        /**
+         * Ctor.
+         * @param item Item with attributes loaded
+         */
+        Entry(final Item item) {
+            this.attrs = item;
+            this.born = System.nanoTime();
+            long total = (long) item.name().length();
+            for (final String name : item.keySet()) {
+                for (final String value : item.all(name)) {
+                    total += (long) (name.length() + value.length());
+                }
+            }
+            this.weight = total * 2L;
+        }
+    }
+
+    /**
+     * Batch, which drops its items from memory, when they are written.
+     *
+     * <p>The original batch sends items in chunks, before the flush, that's
+     * why items are dropped when they are added, and then after the flush
+     * again.
+     *
+     * @since 1.0
+     */
+    private static final class Forgetting implements Batch {
+
+        /**
+         * Domain, which keeps items in memory.
+         */
+        private final transient CachingDomain domain;
+
+        /**
+         * Original batch.
+         */
+        private final transient Batch origin;
+
+        /**
+         * Names of items written since the previous flush.
+         */
+        private final transient Collection<String> names;
+
+        /**
+         * Ctor.
+         * @param dmn Domain, which keeps items in memory
+         * @param batch Original batch
+         */
+        Forgetting(final CachingDomain dmn, final Batch batch) {
+            this.domain = dmn;
+            this.origin = batch;
+            this.names = new HashSet<>(0);
+        }
+
+        @Override
+        public void put(final String item,
+            final Map<? extends String, ? extends String> attrs) {
+            this.origin.put(item, attrs);
+            this.written(item);
+        }
+
+        @Override
+        public void delete(final String item) {
+            this.origin.delete(item);
+            this.written(item);
+        }
+
+        @Override
+        public void delete(final String item,
+            final Collection<String> attrs) {
+            this.origin.delete(item, attrs);
+            this.written(item);
+        }
+
+        @Override
+        public Map<String, Exception> flush() {
+            try {
+                return this.origin.flush();
+            } finally {
+                for (final String item : this.names) {
+                    this.domain.forget(item);
+                }
+                this.names.clear();
+            }
+        }
+
+        /**
+         * Drop the item from memory right away, since the original batch
+         * may send it any time, and once again on flush, since reads may
+         * load it again before it is sent.
+         * @param item Name of the item
+         */
+        private void written(final String item) {
+            this.domain.forget(item);
+            this.names.add(item);
+        }
+    }
+}
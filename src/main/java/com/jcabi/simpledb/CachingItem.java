@@ -0,0 +1,180 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Item of {@link CachingDomain}, which reads its attributes from memory.
+ *
+ * <p>Every write goes to SimpleDB and then drops the item from memory.
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+final class CachingItem implements Item {
+
+    /**
+     * Domain, which keeps items in memory.
+     */
+    private final transient CachingDomain domain;
+
+    /**
+     * Original item.
+     */
+    private final transient Item origin;
+
+    /**
+     * Public ctor.
+     * @param dmn Domain, which keeps items in memory
+     * @param item Original item
+     */
+    CachingItem(final CachingDomain dmn, final Item item) {
+        this.domain = dmn;
+        this.origin = item;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Item fresh() {
+        return this.domain.load(this.origin);
+    }
+
+    @Override
+    public Item fresh(final Collection<String> names) {
+        return this.origin.fresh(names);
+    }
+
+    @Override
+    public int size() {
+        return this.attrs().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.attrs().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.attrs().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.attrs().containsValue(value);
+    }
+
+    @Override
+    public String get(final Object key) {
+        return this.attrs().get(key);
+    }
+
+    @Override
+    public List<String> all(final String name) {
+        return this.attrs().all(name);
+    }
+
+    @Override
+    public void append(final String name, final Collection<String> values) {
+        try {
+            this.origin.append(name, values);
+        } finally {
+            this.domain.forget(this.origin.name());
+        }
+    }
+
+    @Override
+    public String put(final String key, final String value) {
+        try {
+            return this.origin.put(key, value);
+        } finally {
+            this.domain.forget(this.origin.name());
+        }
+    }
+
+    @Override
+    public String remove(final Object key) {
+        try {
+            return this.origin.remove(key);
+        } finally {
+            this.domain.forget(this.origin.name());
+        }
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends String> map) {
+        try {
+            this.origin.putAll(map);
+        } finally {
+            this.domain.forget(this.origin.name());
+        }
+    }
+
+    @Override
+    public void putAll(final Map<String, String> map,
+        final Condition condition) {
+        try {
+            this.origin.putAll(map, condition);
+        } finally {
+            this.domain.forget(this.origin.name());
+        }
+    }
+
+    @Override
+    public void delete(final Collection<String> names,
+        final Condition condition) {
+        try {
+            this.origin.delete(names, condition);
+        } finally {
+            this.domain.forget(this.origin.name());
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            this.origin.clear();
+        } finally {
+            this.domain.forget(this.origin.name());
+        }
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return this.attrs().keySet();
+    }
+
+    @Override
+    public Collection<String> values() {
+        return this.attrs().values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return this.attrs().entrySet();
+    }
+
+    /**
+     * Get attributes, from memory or from SimpleDB.
+     * @return Item with all attributes in memory
+     */
+    private Item attrs() {
+        return this.domain.attrs(this.origin);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonWebServiceClient;
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AWS clients shared between calls, one per credentials.
+ *
+ * <p>A client is built lazily, on the first request for the given
+ * credentials, and then is used by all threads, together with its
+ * connection pool. When its lifetime is over, the next request builds
+ * a fresh client. The previous one may still serve requests in flight,
+ * that's why it is shut down only when the fresh one expires too.
+ *
+ * <p>Equal credentials share a client, but every instance of them which
+ * asked for it is counted as its user. {@link #shutdown(Credentials)}
+ * releases the client for one instance only, and the client is shut
+ * down only when the last of its users releases it, so that closing
+ * one copy of credentials doesn't break others.
+ *
+ * <p>When TRACE logging is enabled for {@link Tracing}, every call
+ * made by the clients is logged, by a wrapper built once per client.
+ * Otherwise, clients are returned as they are, without any wrappers.
+ *
+ * @since 1.0
+ */
+final class Clients {
+
+    /**
+     * Clients shared by all credentials in this JVM.
+     */
+    static final Clients SHARED = new Clients(TimeUnit.MINUTES.toNanos(30L));
+
+    /**
+     * Lifetime of a client, in nanoseconds.
+     */
+    private final transient long lifetime;
+
+    /**
+     * Clients by their credentials.
+     */
+    private final transient ConcurrentMap<Credentials, Clients.Entry> entries;
+
+    /**
+     * Ctor.
+     * @param nanos Lifetime of a client, in nanoseconds
+     */
+    Clients(final long nanos) {
+        this.lifetime = nanos;
+        this.entries = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Get a client for the credentials, building it if necessary.
+     * @param creds Credentials
+     * @param builder Builder of a new client
+     * @return The client
+     */
+    AmazonSimpleDB client(final Credentials creds,
+        final Supplier<AmazonSimpleDB> builder) {
+        final Clients.User user = new Clients.User(creds);
+        Clients.Entry entry = this.entries.get(creds);
+        if (entry == null || entry.expired(this.lifetime)
+            || !entry.users.contains(user)) {
+            entry = this.entries.compute(
+                creds,
+                (key, before) -> {
+                    final Clients.Entry after =
+                        Clients.renew(before, builder, this.lifetime);
+                    after.users.add(user);
+                    return after;
+                }
+            );
+        }
+        final AmazonSimpleDB client;
+        if (Tracing.enabled()) {
+            client = entry.traced;
+        } else {
+            client = entry.current;
+        }
+        return client;
+    }
+
+    /**
+     * Release the clients of these credentials, and shut them down if
+     * no other equal credentials use them.
+     * @param creds Credentials
+     */
+    void shutdown(final Credentials creds) {
+        final Clients.User user = new Clients.User(creds);
+        final Collection<Clients.Entry> unused = new ArrayList<>(1);
+        this.entries.computeIfPresent(
+            creds,
+            (key, entry) -> {
+                entry.users.remove(user);
+                Clients.Entry after = entry;
+                if (entry.users.isEmpty()) {
+                    unused.add(entry);
+                    after = null;
+                }
+                return after;
+            }
+        );
+        for (final Clients.Entry entry : unused) {
+            entry.shutdown();
+        }
+    }
+
+    /**
+     * Close the credentials, if they are closeable, for example when
+     * credentials wrapping them are closed.
+     * @param creds Credentials
+     */
+    static void close(final Credentials creds) {
+        if (creds instanceof Closeable) {
+            try {
+                Closeable.class.cast(creds).close();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Make a new entry, if the existing one is absent or expired.
+     * @param before The existing entry or NULL
+     * @param builder Builder of a new client
+     * @param nanos Lifetime of a client, in nanoseconds
+     * @return The entry to keep
+     */
+    private static Clients.Entry renew(final Clients.Entry before,
+        final Supplier<AmazonSimpleDB> builder, final long nanos) {
+        final Clients.Entry entry;
+        if (before == null) {
+            entry = new Clients.Entry(
+                builder.get(), null, ConcurrentHashMap.newKeySet()
+            );
+        } else if (before.expired(nanos)) {
+            Clients.shutdown(before.previous);
+            entry = new Clients.Entry(
+                builder.get(), before.current, before.users
+            );
+        } else {
+            entry = before;
+        }
+        return entry;
+    }
+
+    /**
+     * Shut down the client, if it's an AWS one.
+     * @param client The client or NULL
+     */
+    private static void shutdown(final AmazonSimpleDB client) {
+        if (client instanceof AmazonWebServiceClient) {
+            AmazonWebServiceClient.class.cast(client).shutdown();
+        }
+    }
+
+    /**
+     * Client together with its predecessor.
+     * @since 1.0
+     */
+    private static final class Entry {
+
+        /**
+         * Current client.
+         */
+        private final transient AmazonSimpleDB current;
+
+        /**
+         * Current client, which logs its calls.
+         */
+        private final transient AmazonSimpleDB traced;
+
+        /**
+         * Previous client, still alive, or NULL.
+         */
+        private final transient AmazonSimpleDB previous;
+
+        /**
+         * When the current client was built, in nanoseconds.
+         */
+        private final transient long start;
+
+        /**
+         * Instances of credentials using the clients.
+         */
+        private final transient Set<Clients.User> users;
+
+        /**
+         * Ctor.
+         * @param client Current client
+         * @param prev Previous client or NULL
+         * @param usrs Instances of credentials using the clients
+         */
+        Entry(final AmazonSimpleDB client, final AmazonSimpleDB prev,
+            final Set<Clients.User> usrs) {
+            this.current = client;
+            this.traced = new InterceptedClient(client, new Tracing());
+            this.previous = prev;
+            this.start = System.nanoTime();
+            this.users = usrs;
+        }
+
+        /**
+         * Is it time to build a fresh client?
+         * @param nanos Lifetime of a client, in nanoseconds
+         * @return TRUE if the current client is too old
+         */
+        boolean expired(final long nanos) {
+            return System.nanoTime() - this.start > nanos;
+        }
+
+        /**
+         * Shut down both clients.
+         */
+        void shutdown() {
+            Clients.shutdown(this.current);
+            Clients.shutdown(this.previous);
+        }
+    }
+
+    /**
+     * Instance of credentials, equal only to itself.
+     * @since 1.0
+     */
+    private static final class User {
+
+        /**
+         * The instance.
+         */
+        private final transient Credentials creds;
+
+        /**
+         * Ctor.
+         * @param instance The instance
+         */
+        User(final Credentials instance) {
+            this.creds = instance;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.CompareObjectsWithEquals")
+        public boolean equals(final Object other) {
+            return other instanceof Clients.User
+                && Clients.User.class.cast(other).creds == this.creds;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.creds);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.UpdateCondition;
+import com.jcabi.aspects.Immutable;
+import java.util.Map;
+import javax.validation.constraints.NotNull;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Expected state of an attribute, which a conditional write requires.
+ *
+ * <p>SimpleDB applies the write only if the attribute has the value
+ * expected, or doesn't exist at all, otherwise
+ * {@link ConflictException} is thrown, for example:
+ *
+ * <pre> String version = item.get("version");
+ * item.putAll(attrs, new Condition("version", version));</pre>
+ *
+ * <p>The attribute must have a single value.
+ *
+ * @since 1.0
+ */
+@Immutable
+@EqualsAndHashCode(of = { "attr", "expected" })
+public final class Condition {
+
+    /**
+     * Name of the attribute.
+     */
+    private final transient String attr;
+
+    /**
+     * Value expected, or NULL if the attribute must be absent.
+     */
+    private final transient String expected;
+
+    /**
+     * Public ctor, expecting the attribute to be absent.
+     * @param name Name of the attribute
+     */
+    public Condition(@NotNull(message = "name can't be NULL")
+        final String name) {
+        this.attr = name;
+        this.expected = null;
+    }
+
+    /**
+     * Public ctor, expecting the attribute to have the value.
+     * @param name Name of the attribute
+     * @param value Value expected
+     */
+    public Condition(@NotNull(message = "name can't be NULL")
+        final String name,
+        @NotNull(message = "value can't be NULL") final String value) {
+        this.attr = name;
+        this.expected = value;
+    }
+
+    @Override
+    public String toString() {
+        final String text;
+        if (this.expected == null) {
+            text = String.format("%s is absent", this.attr);
+        } else {
+            text = String.format("%s=%s", this.attr, this.expected);
+        }
+        return text;
+    }
+
+    /**
+     * Check whether attributes satisfy it.
+     * @param attrs Attributes, with their first values
+     * @return TRUE if the condition holds
+     */
+    boolean holds(final Map<String, String> attrs) {
+        final boolean holds;
+        if (this.expected == null) {
+            holds = !attrs.containsKey(this.attr);
+        } else {
+            holds = this.expected.equals(attrs.get(this.attr));
+        }
+        return holds;
+    }
+
+    /**
+     * Make SimpleDB condition of it.
+     * @return Condition for SimpleDB
+     */
+    UpdateCondition aws() {
+        final UpdateCondition condition = new UpdateCondition()
+            .withName(this.attr);
+        if (this.expected == null) {
+            condition.setExists(false);
+        } else {
+            condition.setValue(this.expected);
+            condition.setExists(true);
+        }
+        return condition;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+/**
+ * Conditional write rejected, because the item was changed by
+ * someone else.
+ *
+ * <p>The write wasn't applied. Read the item again and retry.
+ *
+ * @see Condition
+ * @since 1.0
+ */
+public final class ConflictException extends RuntimeException {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 0x7c5a3e91d2f40b68L;
+
+    /**
+     * Public ctor.
+     * @param msg Message
+     */
+    public ConflictException(final String msg) {
+        super(msg);
+    }
+
+    /**
+     * Public ctor.
+     * @param msg Message
+     * @param cause Cause of it
+     */
+    public ConflictException(final String msg, final Throwable cause) {
+        super(msg, cause);
+    }
+}
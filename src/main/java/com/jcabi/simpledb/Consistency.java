@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+/**
+ * How an item reads its attributes from SimpleDB.
+ *
+ * @since 1.0
+ */
+public enum Consistency {
+
+    /**
+     * Every read is a consistent call to SimpleDB, which sees all writes
+     * made before it, but is slower and more expensive.
+     */
+    STRONG,
+
+    /**
+     * Every read is an eventually consistent call to SimpleDB, which may
+     * not see the most recent writes.
+     */
+    EVENTUAL,
+
+    /**
+     * Attributes are loaded with the first read, by a consistent call to
+     * SimpleDB, and then all reads are served from memory. Writes made
+     * through the item are applied to memory too, while writes made by
+     * others are not seen.
+     */
+    CACHED
+}
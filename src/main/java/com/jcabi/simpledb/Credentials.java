@@ -11,7 +11,7 @@ import com.amazonaws.regions.Regions;
 import com.amazonaws.services.simpledb.AmazonSimpleDB;
 import com.amazonaws.services.simpledb.AmazonSimpleDBClientBuilder;
 import com.jcabi.aspects.Immutable;
-import com.jcabi.aspects.Loggable;
+import java.io.Closeable;
 import javax.validation.constraints.NotNull;
 import lombok.EqualsAndHashCode;
 import org.apache.commons.lang3.Validate;
@@ -21,6 +21,19 @@ import org.apache.commons.lang3.Validate;
  *
  * <p>It is recommended to use {@link Credentials.Simple} in most cases.
  *
+ * <p>All implementations here build an AWS client only once and then
+ * share it, together with its connection pool, between all calls to
+ * {@link #aws()} made with equal credentials. The client is rebuilt
+ * every 30 minutes. Don't shut it down yourself, call
+ * {@link Closeable#close()} on the credentials instead. The client is
+ * shut down when all instances of equal credentials, which used it,
+ * are closed.
+ *
+ * <p>Wrap credentials with {@link Credentials.Throttled} to limit the
+ * rate of calls to SimpleDB and to retry calls it throttles, and with
+ * {@link Credentials.Metered} to report metrics of calls, and with
+ * {@link Credentials.Billed} to see box usage of every call.
+ *
  * @since 0.1
  */
 @Immutable
@@ -36,8 +49,8 @@ public interface Credentials {
     );
 
     /**
-     * Build AWS client.
-     * @return Amazon Dynamo DB client
+     * Get AWS client.
+     * @return Amazon SimpleDB client
      */
     @NotNull
     AmazonSimpleDB aws();
@@ -47,9 +60,8 @@ public interface Credentials {
      * @since 0.1
      */
     @Immutable
-    @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "key", "secret", "region" })
-    final class Simple implements Credentials {
+    final class Simple implements Credentials, Closeable {
 
         /**
          * AWS key.
@@ -112,12 +124,20 @@ public interface Credentials {
         @Override
         @NotNull
         public AmazonSimpleDB aws() {
-            return AmazonSimpleDBClientBuilder.standard()
-                .withRegion(this.region).withCredentials(
-                    new AWSStaticCredentialsProvider(
-                        new BasicAWSCredentials(this.key, this.secret)
-                    )
-                ).build();
+            return Clients.SHARED.client(
+                this,
+                () -> AmazonSimpleDBClientBuilder.standard()
+                    .withRegion(this.region).withCredentials(
+                        new AWSStaticCredentialsProvider(
+                            new BasicAWSCredentials(this.key, this.secret)
+                        )
+                    ).build()
+            );
+        }
+
+        @Override
+        public void close() {
+            Clients.SHARED.shutdown(this);
         }
     }
 
@@ -127,9 +147,8 @@ public interface Credentials {
      * @since 0.1
      */
     @Immutable
-    @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = "region")
-    final class Assumed implements Credentials {
+    final class Assumed implements Credentials, Closeable {
 
         /**
          * Region name.
@@ -166,9 +185,17 @@ public interface Credentials {
         @Override
         @NotNull
         public AmazonSimpleDB aws() {
-            return AmazonSimpleDBClientBuilder.standard()
-                .withRegion(this.region)
-                .build();
+            return Clients.SHARED.client(
+                this,
+                () -> AmazonSimpleDBClientBuilder.standard()
+                    .withRegion(this.region)
+                    .build()
+            );
+        }
+
+        @Override
+        public void close() {
+            Clients.SHARED.shutdown(this);
         }
     }
 
@@ -177,9 +204,8 @@ public interface Credentials {
      * @since 0.1
      */
     @Immutable
-    @Loggable(Loggable.DEBUG)
     @EqualsAndHashCode(of = { "origin", "endpoint" })
-    final class Direct implements Credentials {
+    final class Direct implements Credentials, Closeable {
 
         /**
          * Original credentials.
@@ -220,15 +246,23 @@ public interface Credentials {
         @Override
         @NotNull
         public AmazonSimpleDB aws() {
-            return AmazonSimpleDBClientBuilder.standard()
-                .withEndpointConfiguration(this.config()).withCredentials(
-                    new AWSStaticCredentialsProvider(
-                        new BasicAWSCredentials(
-                            this.origin.key, this.origin.secret
+            return Clients.SHARED.client(
+                this,
+                () -> AmazonSimpleDBClientBuilder.standard()
+                    .withEndpointConfiguration(this.config()).withCredentials(
+                        new AWSStaticCredentialsProvider(
+                            new BasicAWSCredentials(
+                                this.origin.key, this.origin.secret
+                            )
                         )
                     )
-                )
-                .build();
+                    .build()
+            );
+        }
+
+        @Override
+        public void close() {
+            Clients.SHARED.shutdown(this);
         }
 
         private AwsClientBuilder.EndpointConfiguration config() {
@@ -237,4 +271,200 @@ public interface Credentials {
             );
         }
     }
+
+    /**
+     * With rate limit and retries.
+     *
+     * <p>Calls to every domain are limited to the given number per second,
+     * with bursts up to the same number. Calls failed because SimpleDB is
+     * throttling or unavailable are retried, with exponential backoff and
+     * jitter, while the retry budget shared by all calls allows. The budget
+     * grows by a tenth of a retry with every call. These retries are made
+     * on top of the retries of the AWS client itself. All clients returned
+     * by {@link #aws()} share the limit and the budget, for example:
+     *
+     * <pre> Region region = new Region.Simple(
+     *   new Credentials.Throttled(new Credentials.Simple(key, secret), 100)
+     * );</pre>
+     *
+     * @since 1.0
+     */
+    final class Throttled implements Credentials, Closeable {
+
+        /**
+         * Original credentials.
+         */
+        private final transient Credentials origin;
+
+        /**
+         * Rate limiter and retrier.
+         */
+        private final transient Throttle throttle;
+
+        /**
+         * Public ctor, with up to five retries of a call.
+         * @param creds Original credentials
+         * @param rate Calls per second, per domain
+         */
+        public Throttled(@NotNull(message = "credentials can't be NULL")
+            final Credentials creds, final int rate) {
+            this(creds, rate, 5);
+        }
+
+        /**
+         * Public ctor.
+         * @param creds Original credentials
+         * @param rate Calls per second, per domain
+         * @param retries Maximum retries of one call
+         */
+        public Throttled(@NotNull(message = "credentials can't be NULL")
+            final Credentials creds, final int rate, final int retries) {
+            this.origin = creds;
+            this.throttle = new Throttle((double) rate, rate, retries);
+        }
+
+        /**
+         * Public ctor, with retries counted as {@link Metrics#RETRIES}.
+         * @param creds Original credentials
+         * @param rate Calls per second, per domain
+         * @param retries Maximum retries of one call
+         * @param mtr Metrics to count retries in
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        public Throttled(@NotNull(message = "credentials can't be NULL")
+            final Credentials creds, final int rate, final int retries,
+            @NotNull(message = "metrics can't be NULL") final Metrics mtr) {
+            this.origin = creds;
+            this.throttle = new Throttle((double) rate, rate, retries, mtr);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s, throttled", this.origin);
+        }
+
+        @Override
+        @NotNull
+        public AmazonSimpleDB aws() {
+            return new InterceptedClient(this.origin.aws(), this.throttle);
+        }
+
+        @Override
+        public void close() {
+            Clients.close(this.origin);
+        }
+    }
+
+    /**
+     * With metrics of all calls.
+     *
+     * <p>Every call to SimpleDB is timed and counted, together with items
+     * and bytes it transferred and box usage SimpleDB reported, and then
+     * reported to {@link Metrics}. Wrap it with {@link Credentials.Throttled}
+     * to see every retry as a separate call.
+     *
+     * @since 1.0
+     */
+    final class Metered implements Credentials, Closeable {
+
+        /**
+         * Original credentials.
+         */
+        private final transient Credentials origin;
+
+        /**
+         * Metrics to report to.
+         */
+        private final transient Metrics metrics;
+
+        /**
+         * Public ctor.
+         * @param creds Original credentials
+         * @param mtr Metrics to report to
+         */
+        public Metered(@NotNull(message = "credentials can't be NULL")
+            final Credentials creds,
+            @NotNull(message = "metrics can't be NULL") final Metrics mtr) {
+            this.origin = creds;
+            this.metrics = mtr;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s, metered", this.origin);
+        }
+
+        @Override
+        @NotNull
+        public AmazonSimpleDB aws() {
+            final AmazonSimpleDB client = this.origin.aws();
+            return new InterceptedClient(
+                client, new Meter(this.metrics, client)
+            );
+        }
+
+        @Override
+        public void close() {
+            Clients.close(this.origin);
+        }
+    }
+
+    /**
+     * With box usage of every call reported to a listener.
+     *
+     * <p>For example, to find the most expensive selects:
+     *
+     * <pre> Region region = new Region.Simple(
+     *   new Credentials.Billed(
+     *     new Credentials.Simple(key, secret),
+     *     (action, domain, request, hours) -&gt; costs.add(request, hours)
+     *   )
+     * );</pre>
+     *
+     * @since 1.0
+     */
+    final class Billed implements Credentials, Closeable {
+
+        /**
+         * Original credentials.
+         */
+        private final transient Credentials origin;
+
+        /**
+         * Listener of box usage.
+         */
+        private final transient Usage.Listener listener;
+
+        /**
+         * Public ctor.
+         * @param creds Original credentials
+         * @param lstr Listener of box usage
+         */
+        public Billed(@NotNull(message = "credentials can't be NULL")
+            final Credentials creds,
+            @NotNull(message = "listener can't be NULL")
+            final Usage.Listener lstr) {
+            this.origin = creds;
+            this.listener = lstr;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s, billed", this.origin);
+        }
+
+        @Override
+        @NotNull
+        public AmazonSimpleDB aws() {
+            final AmazonSimpleDB client = this.origin.aws();
+            return new InterceptedClient(
+                client, new Billing(this.listener, client)
+            );
+        }
+
+        @Override
+        public void close() {
+            Clients.close(this.origin);
+        }
+    }
 }
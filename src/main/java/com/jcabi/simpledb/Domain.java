@@ -6,6 +6,9 @@ package com.jcabi.simpledb;
 
 import com.amazonaws.services.simpledb.model.SelectRequest;
 import com.jcabi.aspects.Immutable;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.validation.constraints.NotNull;
 
 /**
@@ -21,6 +24,12 @@ import javax.validation.constraints.NotNull;
  *   System.out.println(attr.getKey() + ": " + attr.getValue());
  * }</pre>
  *
+ * <p>Methods added to the interface after its first release have default
+ * implementations built on {@link #item(String)} and
+ * {@link #select(SelectRequest)}, so that domains implemented outside
+ * of this library keep compiling. Domains of SimpleDB override
+ * all of them.
+ *
  * @since 0.1
  */
 @Immutable
@@ -44,18 +53,127 @@ public interface Domain {
     String name();
 
     /**
-     * Get item.
+     * Get item, which reads its attributes as the domain is configured
+     * to, consistently by default.
      * @param name Name of the item
      * @return Item just created
      */
     @NotNull(message = "item is never NULL")
     Item item(@NotNull String name);
 
+    /**
+     * Get item, which reads its attributes as requested.
+     * @param name Name of the item
+     * @param consistency How the item reads its attributes
+     * @return Item just created
+     */
+    @NotNull(message = "item is never NULL")
+    default Item item(@NotNull final String name,
+        @NotNull final Consistency consistency) {
+        return this.item(name);
+    }
+
     /**
      * Select multiple items.
+     *
+     * <p>Items returned contain only the attributes selected and serve
+     * all reads from memory, without calls to SimpleDB. If you select
+     * {@code itemName()} only, call {@link Item#fresh()} to load all
+     * attributes of an item. If {@code ConsistentRead} is not set in
+     * the request, it is set as the domain is configured to. Iterators
+     * of items from SimpleDB implement {@link Usage} and report box usage
+     * of the pages they fetched.
+     *
      * @param request Select request
      * @return Items found
      */
     @NotNull(message = "collection of items is never NULL")
     Iterable<Item> select(@NotNull SelectRequest request);
+
+    /**
+     * Select not more than the given number of items, as a stream.
+     *
+     * <p>Items are the same as of {@link #select(SelectRequest)}. Pages
+     * are fetched only when the stream needs them, and not more than
+     * {@code limit} items are requested from SimpleDB: if the expression
+     * has no {@code LIMIT}, or a bigger one, the limit is put into it,
+     * so that SimpleDB doesn't return items that will never be consumed.
+     * Pages stop being fetched as soon as the stream is done, for
+     * example by {@link Stream#findFirst()}. Close the stream, if pages
+     * are fetched ahead, in order to stop fetching them in background:
+     *
+     * <pre> try (Stream&lt;Item&gt; items = domain.stream(request, 10L)) {
+     *   items.filter(item -&gt; item.containsKey("email"))
+     *     .findFirst();
+     * }</pre>
+     *
+     * <p>The default implementation streams items of
+     * {@link #select(SelectRequest)} and doesn't change the expression.
+     *
+     * @param request Select request
+     * @param limit Maximum number of items, {@link Long#MAX_VALUE} for all
+     * @return Items found, in the order SimpleDB returns them
+     */
+    @NotNull(message = "stream of items is never NULL")
+    default Stream<Item> stream(@NotNull final SelectRequest request,
+        final long limit) {
+        return StreamSupport.stream(
+            this.select(request).spliterator(), false
+        ).limit(limit);
+    }
+
+    /**
+     * Count items.
+     *
+     * <p>The expression must select {@code count(*)}. SimpleDB counts
+     * items page by page, when the count takes too long or reaches the
+     * {@code LIMIT}, and returns a partial count with the token of the
+     * next page. All pages are fetched and their counts are summed up.
+     * Use {@link Scan#count()} to count segments of a big domain
+     * in parallel.
+     *
+     * @param request Select request
+     * @return Number of items
+     */
+    default long count(@NotNull final SelectRequest request) {
+        long total = 0L;
+        for (final Item page : this.select(request)) {
+            total += Long.parseLong(page.get("Count"));
+        }
+        return total;
+    }
+
+    /**
+     * Get its size, as SimpleDB reports it.
+     *
+     * <p>SimpleDB recalculates it periodically, that's why it may be
+     * cached for a short while, about a minute. The default
+     * implementation throws {@link UnsupportedOperationException},
+     * since only SimpleDB knows the size of its domains.
+     *
+     * @return Metadata
+     */
+    @NotNull(message = "metadata is never NULL")
+    default Metadata metadata() {
+        throw new UnsupportedOperationException(
+            String.format("no metadata of %s", this.name())
+        );
+    }
+
+    /**
+     * Start a batch of writes.
+     *
+     * <p>Batches of items are sent to SimpleDB on the executor provided.
+     * Use {@code Runnable::run} to send them in the calling thread, or
+     * a thread pool to send them in parallel. The default implementation
+     * writes items one by one, through {@link #item(String)}, on
+     * {@link Batch#flush()}.
+     *
+     * @param executor Executor to send batches on
+     * @return Batch, empty
+     */
+    @NotNull(message = "batch is never NULL")
+    default Batch batch(@NotNull final Executor executor) {
+        return new ItemsBatch(this, executor);
+    }
 }
@@ -0,0 +1,240 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonWebServiceClient;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.services.simpledb.AbstractAmazonSimpleDB;
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.AmazonSimpleDBClient;
+import com.amazonaws.services.simpledb.SimpleDBResponseMetadata;
+import com.amazonaws.services.simpledb.model.BatchDeleteAttributesRequest;
+import com.amazonaws.services.simpledb.model.BatchDeleteAttributesResult;
+import com.amazonaws.services.simpledb.model.BatchPutAttributesRequest;
+import com.amazonaws.services.simpledb.model.BatchPutAttributesResult;
+import com.amazonaws.services.simpledb.model.CreateDomainRequest;
+import com.amazonaws.services.simpledb.model.CreateDomainResult;
+import com.amazonaws.services.simpledb.model.DeleteAttributesRequest;
+import com.amazonaws.services.simpledb.model.DeleteAttributesResult;
+import com.amazonaws.services.simpledb.model.DeleteDomainRequest;
+import com.amazonaws.services.simpledb.model.DeleteDomainResult;
+import com.amazonaws.services.simpledb.model.DomainMetadataRequest;
+import com.amazonaws.services.simpledb.model.DomainMetadataResult;
+import com.amazonaws.services.simpledb.model.GetAttributesRequest;
+import com.amazonaws.services.simpledb.model.GetAttributesResult;
+import com.amazonaws.services.simpledb.model.ListDomainsRequest;
+import com.amazonaws.services.simpledb.model.ListDomainsResult;
+import com.amazonaws.services.simpledb.model.PutAttributesRequest;
+import com.amazonaws.services.simpledb.model.PutAttributesResult;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.amazonaws.services.simpledb.model.SelectResult;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AWS client, which makes all calls through an interceptor.
+ *
+ * @since 1.0
+ */
+final class InterceptedClient extends AbstractAmazonSimpleDB {
+
+    /**
+     * Domain name in a select expression.
+     */
+    private static final Pattern FROM = Pattern.compile(
+        "\\bfrom\\s+`?([a-zA-Z0-9_.-]+)`?", Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Original client.
+     */
+    private final transient AmazonSimpleDB origin;
+
+    /**
+     * Interceptor of calls.
+     */
+    private final transient Interceptor interceptor;
+
+    /**
+     * Ctor.
+     * @param client Original client
+     * @param icpt Interceptor of calls
+     */
+    InterceptedClient(final AmazonSimpleDB client, final Interceptor icpt) {
+        super();
+        this.origin = client;
+        this.interceptor = icpt;
+    }
+
+    @Override
+    public BatchDeleteAttributesResult batchDeleteAttributes(
+        final BatchDeleteAttributesRequest request) {
+        return this.call(
+            "BatchDeleteAttributes", request.getDomainName(), request,
+            () -> this.origin.batchDeleteAttributes(request)
+        );
+    }
+
+    @Override
+    public BatchPutAttributesResult batchPutAttributes(
+        final BatchPutAttributesRequest request) {
+        return this.call(
+            "BatchPutAttributes", request.getDomainName(), request,
+            () -> this.origin.batchPutAttributes(request)
+        );
+    }
+
+    @Override
+    public CreateDomainResult createDomain(final CreateDomainRequest request) {
+        return this.call(
+            "CreateDomain", request.getDomainName(), request,
+            () -> this.origin.createDomain(request)
+        );
+    }
+
+    @Override
+    public DeleteAttributesResult deleteAttributes(
+        final DeleteAttributesRequest request) {
+        return this.call(
+            "DeleteAttributes", request.getDomainName(), request,
+            () -> this.origin.deleteAttributes(request)
+        );
+    }
+
+    @Override
+    public DeleteDomainResult deleteDomain(final DeleteDomainRequest request) {
+        return this.call(
+            "DeleteDomain", request.getDomainName(), request,
+            () -> this.origin.deleteDomain(request)
+        );
+    }
+
+    @Override
+    public DomainMetadataResult domainMetadata(
+        final DomainMetadataRequest request) {
+        return this.call(
+            "DomainMetadata", request.getDomainName(), request,
+            () -> this.origin.domainMetadata(request)
+        );
+    }
+
+    @Override
+    public GetAttributesResult getAttributes(
+        final GetAttributesRequest request) {
+        return this.call(
+            "GetAttributes", request.getDomainName(), request,
+            () -> this.origin.getAttributes(request)
+        );
+    }
+
+    @Override
+    public ListDomainsResult listDomains(final ListDomainsRequest request) {
+        return this.call(
+            "ListDomains", "", request,
+            () -> this.origin.listDomains(request)
+        );
+    }
+
+    @Override
+    public ListDomainsResult listDomains() {
+        return this.listDomains(new ListDomainsRequest());
+    }
+
+    @Override
+    public PutAttributesResult putAttributes(
+        final PutAttributesRequest request) {
+        return this.call(
+            "PutAttributes", request.getDomainName(), request,
+            () -> this.origin.putAttributes(request)
+        );
+    }
+
+    @Override
+    public SelectResult select(final SelectRequest request) {
+        return this.call(
+            "Select", InterceptedClient.domain(request), request,
+            () -> this.origin.select(request)
+        );
+    }
+
+    /**
+     * Make the call through the interceptor.
+     * @param action Name of SimpleDB action
+     * @param domain Name of the domain or NULL
+     * @param request Request sent
+     * @param call The call
+     * @param <T> Type of result
+     * @return Result of the call
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private <T> T call(final String action, final String domain,
+        final AmazonWebServiceRequest request, final Supplier<T> call) {
+        String name = domain;
+        if (name == null) {
+            name = "";
+        }
+        return this.interceptor.intercept(action, name, request, call);
+    }
+
+    /**
+     * Shut down the original client.
+     *
+     * <p>{@link AmazonSimpleDB} doesn't declare the method, only
+     * {@link AmazonSimpleDBClient} has it, that's why it's not an override
+     * and the original client is checked for the classes which have it.
+     */
+    public void shutdown() {
+        if (this.origin instanceof AmazonWebServiceClient) {
+            AmazonWebServiceClient.class.cast(this.origin).shutdown();
+        } else if (this.origin instanceof InterceptedClient) {
+            InterceptedClient.class.cast(this.origin).shutdown();
+        }
+    }
+
+    /**
+     * Get metadata of the response to the request, from the original
+     * client, the same way as {@link #shutdown()} does.
+     * @param request The request
+     * @return Metadata or NULL if unknown
+     */
+    public SimpleDBResponseMetadata getCachedResponseMetadata(
+        final AmazonWebServiceRequest request) {
+        SimpleDBResponseMetadata meta = null;
+        if (this.origin instanceof AmazonSimpleDBClient) {
+            meta = AmazonSimpleDBClient.class.cast(this.origin)
+                .getCachedResponseMetadata(request);
+        } else if (this.origin instanceof InterceptedClient) {
+            meta = InterceptedClient.class.cast(this.origin)
+                .getCachedResponseMetadata(request);
+        }
+        return meta;
+    }
+
+    /**
+     * Get original client.
+     * @return The client
+     */
+    AmazonSimpleDB origin() {
+        return this.origin;
+    }
+
+    /**
+     * Find domain name in a select request.
+     * @param request The request
+     * @return Domain name or empty string
+     */
+    private static String domain(final SelectRequest request) {
+        String name = "";
+        final String expr = request.getSelectExpression();
+        if (expr != null) {
+            final Matcher matcher = InterceptedClient.FROM.matcher(expr);
+            if (matcher.find()) {
+                name = matcher.group(1);
+            }
+        }
+        return name;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import java.util.function.Supplier;
+
+/**
+ * Interceptor of calls to SimpleDB, made by {@link InterceptedClient}.
+ *
+ * @since 1.0
+ */
+interface Interceptor {
+
+    /**
+     * Make the call.
+     * @param action Name of SimpleDB action, like "Select"
+     * @param domain Name of the domain, empty if unknown
+     * @param request Request sent
+     * @param call The call to make, may be made a few times
+     * @param <T> Type of result
+     * @return Result of the call
+     */
+    <T> T intercept(String action, String domain,
+        AmazonWebServiceRequest request, Supplier<T> call);
+}
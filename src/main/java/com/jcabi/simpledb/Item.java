@@ -4,7 +4,12 @@
  */
 package com.jcabi.simpledb;
 
+import com.amazonaws.services.simpledb.model.Attribute;
 import com.jcabi.aspects.Immutable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import javax.validation.constraints.NotNull;
 
@@ -16,6 +21,25 @@ import javax.validation.constraints.NotNull;
  * data in Amazon, but doesn't change the object. The object will contain
  * dirty data right after PUT operation, and should not be used anymore.
  *
+ * <p>An attribute in SimpleDB may have a few values. Methods of
+ * {@link Map} see only the first one of them and replace all of them
+ * on write. Use {@link #all(String)} and {@link #append(String, Collection)}
+ * to read and write all values of an attribute, for example:
+ *
+ * <pre> item.append("tags", Arrays.asList("red", "green"));
+ * List&lt;String&gt; tags = item.all("tags");</pre>
+ *
+ * <p>Writes may be conditional, applied only if an attribute has the value
+ * expected, see {@link Condition}. Concurrent writers may use them to
+ * update an item optimistically, without locks, and retry on
+ * {@link ConflictException}.
+ *
+ * <p>Methods added to the interface after its first release have default
+ * implementations built on the methods of {@link Map}, so that items
+ * implemented outside of this library keep compiling. The defaults see
+ * one value per attribute and check conditions on the client side, which
+ * is not atomic; items stored in SimpleDB override all of them.
+ *
  * @since 0.1
  */
 @Immutable
@@ -27,4 +51,116 @@ public interface Item extends Map<String, String> {
      */
     @NotNull(message = "name is never NULL")
     String name();
+
+    /**
+     * Load a fresh copy of it from SimpleDB.
+     *
+     * <p>The copy contains all attributes the item has in SimpleDB right
+     * now and serves all reads from memory, without further calls.
+     *
+     * @return Item with fresh attributes
+     */
+    @NotNull(message = "item is never NULL")
+    default Item fresh() {
+        return this.fresh(this.keySet());
+    }
+
+    /**
+     * Load a fresh copy of some of its attributes from SimpleDB.
+     *
+     * <p>Only the attributes requested are transferred from SimpleDB,
+     * the copy doesn't contain any other attributes. If no names are
+     * given, the copy is empty and nothing is loaded.
+     *
+     * @param names Names of the attributes to load
+     * @return Item with fresh attributes
+     */
+    @NotNull(message = "item is never NULL")
+    default Item fresh(@NotNull final Collection<String> names) {
+        final Collection<Attribute> attrs = new ArrayList<>(names.size());
+        for (final String name : names) {
+            final String value = this.get(name);
+            if (value != null) {
+                attrs.add(new Attribute().withName(name).withValue(value));
+            }
+        }
+        return new SnapshotItem(this, attrs);
+    }
+
+    /**
+     * Get all values of the attribute.
+     * @param name Name of the attribute
+     * @return Values, empty if the attribute is absent
+     */
+    @NotNull(message = "list of values is never NULL")
+    default List<String> all(@NotNull final String name) {
+        final String value = this.get(name);
+        final List<String> values;
+        if (value == null) {
+            values = Collections.emptyList();
+        } else {
+            values = Collections.singletonList(value);
+        }
+        return values;
+    }
+
+    /**
+     * Add values to the attribute, keeping the values it already has.
+     *
+     * <p>The default implementation can't keep a few values of an
+     * attribute and throws {@link UnsupportedOperationException}, unless
+     * there is nothing to add.
+     *
+     * @param name Name of the attribute
+     * @param values Values to add
+     */
+    default void append(@NotNull final String name,
+        @NotNull final Collection<String> values) {
+        if (!values.isEmpty()) {
+            throw new UnsupportedOperationException(
+                String.format(
+                    "%s can't keep more than one value of \"%s\"",
+                    this.getClass().getName(), name
+                )
+            );
+        }
+    }
+
+    /**
+     * Put attributes, replacing their values, if the condition holds.
+     * @param map Attributes to put
+     * @param condition Condition expected
+     * @throws ConflictException If the condition doesn't hold
+     */
+    default void putAll(@NotNull final Map<String, String> map,
+        @NotNull final Condition condition) {
+        if (!condition.holds(this)) {
+            throw new ConflictException(
+                String.format("%s doesn't hold in %s", condition, this.name())
+            );
+        }
+        this.putAll((Map<? extends String, ? extends String>) map);
+    }
+
+    /**
+     * Delete attributes, if the condition holds.
+     * @param names Names of attributes to delete, all of them if empty
+     * @param condition Condition expected
+     * @throws ConflictException If the condition doesn't hold
+     */
+    default void delete(@NotNull final Collection<String> names,
+        @NotNull final Condition condition) {
+        if (!condition.holds(this)) {
+            throw new ConflictException(
+                String.format("%s doesn't hold in %s", condition, this.name())
+            );
+        }
+        if (names.isEmpty()) {
+            this.clear();
+        } else {
+            for (final String name : names) {
+                this.remove(name);
+            }
+        }
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Batch of writes to items of a domain, one by one.
+ *
+ * <p>Writes are kept until {@link #flush()}, which applies them
+ * to the items of the domain in the order they were made, in one
+ * task on the executor, and waits for it. It's the batch of domains
+ * which can't write a few items in one call.
+ *
+ * @since 1.0
+ */
+final class ItemsBatch implements Batch {
+
+    /**
+     * Domain to write to.
+     */
+    private final transient Domain domain;
+
+    /**
+     * Executor to write on.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Pending writes, with names of their items.
+     */
+    private final transient List<Map.Entry<String, Consumer<Item>>> writes;
+
+    /**
+     * Public ctor.
+     * @param dmn Domain to write to
+     * @param exec Executor to write on
+     */
+    ItemsBatch(final Domain dmn, final Executor exec) {
+        this.domain = dmn;
+        this.executor = exec;
+        this.writes = new LinkedList<>();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d writes to %s", this.writes.size(), this.domain.name()
+        );
+    }
+
+    @Override
+    public void put(final String item,
+        final Map<? extends String, ? extends String> attrs) {
+        final Map<String, String> copy = new LinkedHashMap<>(attrs);
+        this.add(item, target -> target.putAll(copy));
+    }
+
+    @Override
+    public void delete(final String item) {
+        this.add(item, Item::clear);
+    }
+
+    @Override
+    public void delete(final String item, final Collection<String> attrs) {
+        if (!attrs.isEmpty()) {
+            final Collection<String> copy = new LinkedHashSet<>(attrs);
+            this.add(
+                item,
+                target -> {
+                    for (final String attr : copy) {
+                        target.remove(attr);
+                    }
+                }
+            );
+        }
+    }
+
+    @Override
+    public Map<String, Exception> flush() {
+        final Collection<Map.Entry<String, Consumer<Item>>> pending =
+            new ArrayList<>(this.writes);
+        this.writes.clear();
+        final Map<String, Exception> failed = new HashMap<>(0);
+        CompletableFuture.runAsync(
+            () -> {
+                for (final Map.Entry<String, Consumer<Item>> write
+                    : pending) {
+                    try {
+                        write.getValue().accept(
+                            this.domain.item(write.getKey())
+                        );
+                    } catch (final RuntimeException ex) {
+                        failed.put(write.getKey(), ex);
+                    }
+                }
+            },
+            this.executor
+        ).join();
+        return failed;
+    }
+
+    /**
+     * Add a write.
+     * @param item Name of the item
+     * @param write The write
+     */
+    private void add(final String item, final Consumer<Item> write) {
+        this.writes.add(
+            new AbstractMap.SimpleImmutableEntry<>(item, write)
+        );
+    }
+}
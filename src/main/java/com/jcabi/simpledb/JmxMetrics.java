@@ -0,0 +1,407 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.jcabi.log.Logger;
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Metrics, exposed through JMX.
+ *
+ * <p>Every pair of action and domain gets its own MBean, registered
+ * in the platform MBean server by the first call, with the name like
+ * {@code com.jcabi.simpledb:type=Action,domain="users",name=Select}.
+ * It shows number of calls, errors, throttled calls, retries, items,
+ * bytes, box usage, and latency: mean, maximum and percentiles.
+ * Percentiles are approximate, calls are counted in buckets, twice longer
+ * each, and the percentile reported is the upper bound of its bucket.
+ * Retries are counted only if the same metrics are given to
+ * {@link Credentials.Throttled}.
+ *
+ * <p>Call {@link #close()} to unregister all MBeans, when the metrics
+ * are not needed anymore. Calls reported after that register them again.
+ *
+ * @since 1.0
+ */
+public final class JmxMetrics implements Metrics, Closeable {
+
+    /**
+     * Server to register MBeans in.
+     */
+    private final transient MBeanServer server;
+
+    /**
+     * Domain of MBean names.
+     */
+    private final transient String prefix;
+
+    /**
+     * Statistics, by action and domain.
+     */
+    private final transient ConcurrentMap<String, JmxMetrics.Stats> stats;
+
+    /**
+     * Names of MBeans registered.
+     */
+    private final transient Collection<ObjectName> names;
+
+    /**
+     * Public ctor, with "com.jcabi.simpledb" domain of MBean names.
+     */
+    public JmxMetrics() {
+        this("com.jcabi.simpledb");
+    }
+
+    /**
+     * Public ctor.
+     * @param jmx Domain of MBean names
+     */
+    public JmxMetrics(@NotNull(message = "JMX domain can't be NULL")
+        final String jmx) {
+        this.server = ManagementFactory.getPlatformMBeanServer();
+        this.prefix = jmx;
+        this.stats = new ConcurrentHashMap<>(0);
+        this.names = new ConcurrentLinkedQueue<>();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d MBeans in %s", this.stats.size(), this.prefix);
+    }
+
+    @Override
+    public void time(final String action, final String domain,
+        final long nanos) {
+        this.stats(action, domain).time(nanos);
+    }
+
+    @Override
+    public void count(final String action, final String domain,
+        final String counter, final double amount) {
+        this.stats(action, domain).count(counter, amount);
+    }
+
+    /**
+     * Unregister all MBeans.
+     */
+    @Override
+    public void close() {
+        for (final ObjectName name : this.names) {
+            try {
+                if (this.server.isRegistered(name)) {
+                    this.server.unregisterMBean(name);
+                }
+            } catch (final JMException ex) {
+                Logger.warn(
+                    this, "Can't unregister MBean %s: %s",
+                    name, ex.getMessage()
+                );
+            }
+            this.names.remove(name);
+        }
+        this.stats.clear();
+    }
+
+    /**
+     * Get statistics of the action, registering them if necessary.
+     * @param action Name of action
+     * @param domain Name of domain
+     * @return Statistics
+     */
+    private JmxMetrics.Stats stats(final String action, final String domain) {
+        return this.stats.computeIfAbsent(
+            String.format("%s %s", action, domain),
+            key -> {
+                final JmxMetrics.Stats mbean = new JmxMetrics.Stats();
+                try {
+                    final ObjectName name = new ObjectName(
+                        String.format(
+                            "%s:type=Action,domain=%s,name=%s",
+                            this.prefix, ObjectName.quote(domain),
+                            ObjectName.quote(action)
+                        )
+                    );
+                    this.server.registerMBean(
+                        new StandardMBean(mbean, JmxMetrics.StatsMBean.class),
+                        name
+                    );
+                    this.names.add(name);
+                } catch (final JMException ex) {
+                    Logger.warn(
+                        this, "Can't register MBean of %s in %s: %s",
+                        action, domain, ex.getMessage()
+                    );
+                }
+                return mbean;
+            }
+        );
+    }
+
+    /**
+     * Statistics of an action in a domain, as seen through JMX.
+     *
+     * @since 1.0
+     */
+    public interface StatsMBean {
+
+        /**
+         * Get number of calls.
+         * @return Calls made
+         */
+        long getCalls();
+
+        /**
+         * Get number of failed calls.
+         * @return Calls failed
+         */
+        long getErrors();
+
+        /**
+         * Get number of calls rejected, because SimpleDB is throttling.
+         * @return Calls throttled
+         */
+        long getThrottled();
+
+        /**
+         * Get number of retries.
+         * @return Calls retried
+         */
+        long getRetries();
+
+        /**
+         * Get number of items returned.
+         * @return Items
+         */
+        long getItems();
+
+        /**
+         * Get number of bytes of names and values, sent and received.
+         * @return Bytes
+         */
+        long getBytes();
+
+        /**
+         * Get machine hours used by SimpleDB.
+         * @return Box usage
+         */
+        double getBoxUsage();
+
+        /**
+         * Get mean latency.
+         * @return Milliseconds
+         */
+        double getMeanMillis();
+
+        /**
+         * Get maximum latency.
+         * @return Milliseconds
+         */
+        double getMaxMillis();
+
+        /**
+         * Get median latency, approximately.
+         * @return Milliseconds
+         */
+        double getP50Millis();
+
+        /**
+         * Get 99th percentile of latency, approximately.
+         * @return Milliseconds
+         */
+        double getP99Millis();
+    }
+
+    /**
+     * Statistics of an action in a domain.
+     *
+     * @since 1.0
+     */
+    private static final class Stats implements JmxMetrics.StatsMBean {
+
+        /**
+         * Number of buckets of latency, from a microsecond and up.
+         */
+        private static final int BUCKETS = 40;
+
+        /**
+         * Calls, by buckets of latency.
+         */
+        private final transient AtomicLongArray buckets;
+
+        /**
+         * Total latency, in nanoseconds.
+         */
+        private final transient LongAdder total;
+
+        /**
+         * Maximum latency, in nanoseconds.
+         */
+        private final transient LongAccumulator max;
+
+        /**
+         * Counters, by names.
+         */
+        private final transient ConcurrentMap<String, DoubleAdder> counters;
+
+        /**
+         * Ctor.
+         */
+        Stats() {
+            this.buckets = new AtomicLongArray(JmxMetrics.Stats.BUCKETS);
+            this.total = new LongAdder();
+            this.max = new LongAccumulator(Math::max, 0L);
+            this.counters = new ConcurrentHashMap<>(0);
+        }
+
+        @Override
+        public long getCalls() {
+            long calls = 0L;
+            for (int idx = 0; idx < this.buckets.length(); ++idx) {
+                calls += this.buckets.get(idx);
+            }
+            return calls;
+        }
+
+        @Override
+        public long getErrors() {
+            return (long) this.counter(Metrics.ERRORS);
+        }
+
+        @Override
+        public long getThrottled() {
+            return (long) this.counter(Metrics.THROTTLED);
+        }
+
+        @Override
+        public long getRetries() {
+            return (long) this.counter(Metrics.RETRIES);
+        }
+
+        @Override
+        public long getItems() {
+            return (long) this.counter(Metrics.ITEMS);
+        }
+
+        @Override
+        public long getBytes() {
+            return (long) this.counter(Metrics.BYTES);
+        }
+
+        @Override
+        public double getBoxUsage() {
+            return this.counter(Metrics.BOX_USAGE);
+        }
+
+        @Override
+        public double getMeanMillis() {
+            final long calls = this.getCalls();
+            double mean = 0.0d;
+            if (calls > 0L) {
+                mean = JmxMetrics.Stats.millis(this.total.sum()) / calls;
+            }
+            return mean;
+        }
+
+        @Override
+        public double getMaxMillis() {
+            return JmxMetrics.Stats.millis(this.max.get());
+        }
+
+        @Override
+        public double getP50Millis() {
+            return this.percentile(0.5d);
+        }
+
+        @Override
+        public double getP99Millis() {
+            return this.percentile(0.99d);
+        }
+
+        /**
+         * Record time of a call.
+         * @param nanos Nanoseconds
+         */
+        void time(final long nanos) {
+            final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+            final int bucket = Math.min(
+                JmxMetrics.Stats.BUCKETS - 1,
+                Long.SIZE - Long.numberOfLeadingZeros(micros)
+            );
+            this.buckets.incrementAndGet(bucket);
+            this.total.add(nanos);
+            this.max.accumulate(nanos);
+        }
+
+        /**
+         * Add to a counter.
+         * @param name Name of the counter
+         * @param amount How much to add
+         */
+        void count(final String name, final double amount) {
+            this.counters.computeIfAbsent(name, key -> new DoubleAdder())
+                .add(amount);
+        }
+
+        /**
+         * Get value of a counter.
+         * @param name Name of the counter
+         * @return Value
+         */
+        private double counter(final String name) {
+            final DoubleAdder adder = this.counters.get(name);
+            double value = 0.0d;
+            if (adder != null) {
+                value = adder.sum();
+            }
+            return value;
+        }
+
+        /**
+         * Get upper bound of the bucket with the percentile.
+         * @param share Share of calls, faster than the percentile
+         * @return Milliseconds
+         */
+        private double percentile(final double share) {
+            final long calls = this.getCalls();
+            final long rank = (long) Math.ceil(share * calls);
+            long seen = 0L;
+            double bound = 0.0d;
+            for (int idx = 0; idx < this.buckets.length(); ++idx) {
+                seen += this.buckets.get(idx);
+                if (calls > 0L && seen >= rank) {
+                    bound = JmxMetrics.Stats.millis(
+                        TimeUnit.MICROSECONDS.toNanos(1L << idx)
+                    );
+                    break;
+                }
+            }
+            return bound;
+        }
+
+        /**
+         * Convert nanoseconds to milliseconds.
+         * @param nanos Nanoseconds
+         * @return Milliseconds
+         */
+        private static double millis(final long nanos) {
+            return (double) nanos / (double) TimeUnit.MILLISECONDS.toNanos(1L);
+        }
+    }
+}
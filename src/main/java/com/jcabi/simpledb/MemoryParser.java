@@ -0,0 +1,560 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Parser of SimpleDB select expressions, for {@link MemorySimpleDB}.
+ *
+ * <p>It understands the dialect of SimpleDB: output of all attributes,
+ * some of them, {@code itemName()} or {@code count(*)}; comparisons
+ * with {@code =}, {@code !=}, {@code <}, {@code <=}, {@code >},
+ * {@code >=}, {@code like}, {@code not like}, {@code between},
+ * {@code in}, {@code is null} and {@code is not null}; {@code every()}
+ * of multi-valued attributes; {@code and}, {@code or}, {@code not},
+ * {@code intersection} and parentheses; {@code order by} and
+ * {@code limit}. All values are compared as strings, lexicographically,
+ * the way SimpleDB does it. A condition on a multi-valued attribute
+ * holds if it holds for any of its values.
+ *
+ * <p>The class is not thread-safe, make a new one for every expression.
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.GodClass")
+final class MemoryParser {
+
+    /**
+     * Maximum number of items in a page.
+     */
+    private static final int MAX = 2500;
+
+    /**
+     * Symbols of two characters.
+     */
+    private static final Collection<String> PAIRS = Arrays.asList(
+        "!=", "<>", "<=", ">="
+    );
+
+    /**
+     * Kind of a token: bare word.
+     */
+    private static final char WORD = 'w';
+
+    /**
+     * Kind of a token: name in backticks.
+     */
+    private static final char QUOTED = 'q';
+
+    /**
+     * Kind of a token: string literal.
+     */
+    private static final char TEXT = 't';
+
+    /**
+     * Kind of a token: symbol.
+     */
+    private static final char SYMBOL = 's';
+
+    /**
+     * Expression to parse.
+     */
+    private final transient String expression;
+
+    /**
+     * Tokens, each one prefixed by its kind.
+     */
+    private final transient List<String> tokens;
+
+    /**
+     * Position of the next token.
+     */
+    private transient int pos;
+
+    /**
+     * Ctor.
+     * @param expr Select expression
+     */
+    MemoryParser(final String expr) {
+        this.expression = expr;
+        this.tokens = MemoryParser.tokenize(expr);
+    }
+
+    /**
+     * Parse it.
+     * @return Query
+     */
+    MemoryQuery query() {
+        this.expect("select");
+        final Collection<String> output = this.output();
+        this.expect("from");
+        final String table = this.name();
+        BiPredicate<String, Map<String, List<String>>> where =
+            (name, attrs) -> true;
+        if (this.accept("where")) {
+            where = this.disjunction();
+        }
+        String sort = null;
+        boolean desc = false;
+        if (this.accept("order")) {
+            this.expect("by");
+            sort = this.subject();
+            desc = this.accept("desc");
+            if (!desc) {
+                this.accept("asc");
+            }
+        }
+        int limit = 0;
+        if (this.accept("limit")) {
+            limit = this.number();
+        }
+        if (this.pos < this.tokens.size()) {
+            throw this.invalid();
+        }
+        return new MemoryQuery(table, output, where, sort, desc, limit);
+    }
+
+    /**
+     * Parse the output.
+     * @return Names of attributes, or one of constants of
+     *  {@link MemoryQuery}
+     */
+    private Collection<String> output() {
+        final Collection<String> output;
+        if (this.symbol("*")) {
+            output = Collections.singleton(MemoryQuery.ALL);
+        } else if (this.accept("count")) {
+            this.expectSymbol("(");
+            this.expectSymbol("*");
+            this.expectSymbol(")");
+            output = Collections.singleton(MemoryQuery.COUNT);
+        } else {
+            final Collection<String> names = new HashSet<>(1);
+            do {
+                names.add(this.subject());
+            } while (this.symbol(","));
+            if (names.contains(MemoryQuery.NAME) && names.size() > 1) {
+                throw this.invalid();
+            }
+            output = names;
+        }
+        return output;
+    }
+
+    /**
+     * Parse conditions joined by {@code or}.
+     * @return Condition
+     */
+    private BiPredicate<String, Map<String, List<String>>> disjunction() {
+        BiPredicate<String, Map<String, List<String>>> cond =
+            this.conjunction();
+        while (this.accept("or")) {
+            cond = cond.or(this.conjunction());
+        }
+        return cond;
+    }
+
+    /**
+     * Parse conditions joined by {@code and} or {@code intersection}.
+     * @return Condition
+     */
+    private BiPredicate<String, Map<String, List<String>>> conjunction() {
+        BiPredicate<String, Map<String, List<String>>> cond = this.factor();
+        while (this.accept("and") || this.accept("intersection")) {
+            cond = cond.and(this.factor());
+        }
+        return cond;
+    }
+
+    /**
+     * Parse a negation, a condition in parentheses or a predicate.
+     * @return Condition
+     */
+    private BiPredicate<String, Map<String, List<String>>> factor() {
+        final BiPredicate<String, Map<String, List<String>>> cond;
+        if (this.accept("not")) {
+            cond = this.factor().negate();
+        } else if (this.symbol("(")) {
+            cond = this.disjunction();
+            this.expectSymbol(")");
+        } else {
+            cond = this.predicate();
+        }
+        return cond;
+    }
+
+    /**
+     * Parse a predicate on an attribute or the name of an item.
+     * @return Condition
+     */
+    private BiPredicate<String, Map<String, List<String>>> predicate() {
+        final boolean every = this.accept("every");
+        if (every) {
+            this.expectSymbol("(");
+        }
+        final String attr = this.subject();
+        if (every) {
+            this.expectSymbol(")");
+        }
+        final BiPredicate<String, Map<String, List<String>>> cond;
+        if (this.accept("is")) {
+            final boolean not = this.accept("not");
+            this.expect("null");
+            cond = (name, attrs) ->
+                MemoryParser.values(attr, name, attrs).isEmpty() != not;
+        } else {
+            final Predicate<String> test = this.comparison();
+            if (every) {
+                cond = (name, attrs) -> {
+                    final List<String> values =
+                        MemoryParser.values(attr, name, attrs);
+                    return !values.isEmpty() && values.stream().allMatch(test);
+                };
+            } else {
+                cond = (name, attrs) -> MemoryParser.values(attr, name, attrs)
+                    .stream().anyMatch(test);
+            }
+        }
+        return cond;
+    }
+
+    /**
+     * Parse a comparison of a value.
+     * @return Test of a value
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private Predicate<String> comparison() {
+        final Predicate<String> test;
+        if (this.symbol("=")) {
+            test = this.literal()::equals;
+        } else if (this.symbol("!=") || this.symbol("<>")) {
+            final String value = this.literal();
+            test = val -> !val.equals(value);
+        } else if (this.symbol("<")) {
+            final String value = this.literal();
+            test = val -> val.compareTo(value) < 0;
+        } else if (this.symbol("<=")) {
+            final String value = this.literal();
+            test = val -> val.compareTo(value) <= 0;
+        } else if (this.symbol(">")) {
+            final String value = this.literal();
+            test = val -> val.compareTo(value) > 0;
+        } else if (this.symbol(">=")) {
+            final String value = this.literal();
+            test = val -> val.compareTo(value) >= 0;
+        } else if (this.accept("like")) {
+            test = MemoryParser.like(this.literal());
+        } else if (this.accept("not")) {
+            this.expect("like");
+            test = MemoryParser.like(this.literal()).negate();
+        } else if (this.accept("between")) {
+            final String low = this.literal();
+            this.expect("and");
+            final String high = this.literal();
+            test = val -> val.compareTo(low) >= 0 && val.compareTo(high) <= 0;
+        } else if (this.accept("in")) {
+            this.expectSymbol("(");
+            final Collection<String> values = new HashSet<>(1);
+            do {
+                values.add(this.literal());
+            } while (this.symbol(","));
+            this.expectSymbol(")");
+            test = values::contains;
+        } else {
+            throw this.invalid();
+        }
+        return test;
+    }
+
+    /**
+     * Parse a name of an attribute or {@code itemName()}.
+     * @return Name of attribute or {@link MemoryQuery#NAME}
+     */
+    private String subject() {
+        String name = this.name();
+        if ("itemname".equals(name.toLowerCase(Locale.ENGLISH))
+            && this.symbol("(")) {
+            this.expectSymbol(")");
+            name = MemoryQuery.NAME;
+        }
+        return name;
+    }
+
+    /**
+     * Parse a name, bare or in backticks.
+     * @return Name
+     */
+    private String name() {
+        final String token = this.next();
+        if (token.charAt(0) != MemoryParser.WORD
+            && token.charAt(0) != MemoryParser.QUOTED) {
+            throw this.invalid();
+        }
+        return token.substring(1);
+    }
+
+    /**
+     * Parse a string literal.
+     * @return Value
+     */
+    private String literal() {
+        final String token = this.next();
+        if (token.charAt(0) != MemoryParser.TEXT) {
+            throw this.invalid();
+        }
+        return token.substring(1);
+    }
+
+    /**
+     * Parse the limit.
+     * @return Number
+     */
+    private int number() {
+        final int number;
+        try {
+            number = Integer.parseInt(this.name());
+        } catch (final NumberFormatException ex) {
+            throw this.invalid();
+        }
+        if (number < 1 || number > MemoryParser.MAX) {
+            throw MemorySimpleDB.error(
+                "InvalidNumberValue", 400,
+                String.format(
+                    "Limit %d must be between 1 and %d",
+                    number, MemoryParser.MAX
+                )
+            );
+        }
+        return number;
+    }
+
+    /**
+     * Skip the keyword or fail.
+     * @param word Keyword, in lower case
+     */
+    private void expect(final String word) {
+        if (!this.accept(word)) {
+            throw this.invalid();
+        }
+    }
+
+    /**
+     * Skip the symbol or fail.
+     * @param sym Symbol
+     */
+    private void expectSymbol(final String sym) {
+        if (!this.symbol(sym)) {
+            throw this.invalid();
+        }
+    }
+
+    /**
+     * Skip the keyword if it is the next token.
+     * @param word Keyword, in lower case
+     * @return TRUE if skipped
+     */
+    private boolean accept(final String word) {
+        return this.skip(MemoryParser.WORD, word);
+    }
+
+    /**
+     * Skip the symbol if it is the next token.
+     * @param sym Symbol
+     * @return TRUE if skipped
+     */
+    private boolean symbol(final String sym) {
+        return this.skip(MemoryParser.SYMBOL, sym);
+    }
+
+    /**
+     * Skip the token if it is the next one.
+     * @param kind Kind of token
+     * @param text Text of it, case insensitive
+     * @return TRUE if skipped
+     */
+    private boolean skip(final char kind, final String text) {
+        boolean skipped = false;
+        if (this.pos < this.tokens.size()) {
+            final String token = this.tokens.get(this.pos);
+            if (token.charAt(0) == kind
+                && token.substring(1).equalsIgnoreCase(text)) {
+                ++this.pos;
+                skipped = true;
+            }
+        }
+        return skipped;
+    }
+
+    /**
+     * Take the next token or fail.
+     * @return Token, prefixed by its kind
+     */
+    private String next() {
+        if (this.pos >= this.tokens.size()) {
+            throw this.invalid();
+        }
+        final String token = this.tokens.get(this.pos);
+        ++this.pos;
+        return token;
+    }
+
+    /**
+     * Make an error of invalid expression.
+     * @return Error to throw
+     */
+    private RuntimeException invalid() {
+        return MemoryParser.invalid(this.expression, this.pos);
+    }
+
+    /**
+     * Make an error of invalid expression.
+     * @param expr Expression
+     * @param pos Position of a token or a character
+     * @return Error to throw
+     */
+    private static RuntimeException invalid(final String expr,
+        final int pos) {
+        return MemorySimpleDB.error(
+            "InvalidQueryExpression", 400,
+            String.format(
+                "The specified query expression syntax is not valid at %d: %s",
+                pos, expr
+            )
+        );
+    }
+
+    /**
+     * Get values of an attribute or the name of an item.
+     * @param attr Name of attribute or {@link MemoryQuery#NAME}
+     * @param name Name of the item
+     * @param attrs Attributes of the item
+     * @return Values
+     */
+    private static List<String> values(final String attr, final String name,
+        final Map<String, List<String>> attrs) {
+        final List<String> values;
+        if (MemoryQuery.NAME.equals(attr)) {
+            values = Collections.singletonList(name);
+        } else {
+            values = attrs.getOrDefault(attr, Collections.emptyList());
+        }
+        return values;
+    }
+
+    /**
+     * Make a test of {@code like}.
+     * @param pattern Pattern, with {@code %} as a wildcard
+     * @return Test of a value
+     */
+    private static Predicate<String> like(final String pattern) {
+        final StringBuilder regex = new StringBuilder(pattern.length());
+        int start = 0;
+        for (int idx = pattern.indexOf('%'); idx >= 0;
+            idx = pattern.indexOf('%', start)) {
+            if (idx > start) {
+                regex.append(Pattern.quote(pattern.substring(start, idx)));
+            }
+            regex.append(".*");
+            start = idx + 1;
+        }
+        if (start < pattern.length()) {
+            regex.append(Pattern.quote(pattern.substring(start)));
+        }
+        final Pattern compiled = Pattern.compile(
+            regex.toString(), Pattern.DOTALL
+        );
+        return val -> compiled.matcher(val).matches();
+    }
+
+    /**
+     * Break an expression into tokens.
+     * @param expr Expression
+     * @return Tokens, each one prefixed by its kind
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static List<String> tokenize(final String expr) {
+        final List<String> tokens = new ArrayList<>(0);
+        int idx = 0;
+        while (idx < expr.length()) {
+            final char chr = expr.charAt(idx);
+            if (Character.isWhitespace(chr)) {
+                ++idx;
+            } else if (chr == '`' || chr == '\'' || chr == '"') {
+                final StringBuilder text = new StringBuilder(0);
+                if (chr == '`') {
+                    text.append(MemoryParser.QUOTED);
+                } else {
+                    text.append(MemoryParser.TEXT);
+                }
+                idx = MemoryParser.quoted(expr, idx, text);
+                tokens.add(text.toString());
+            } else if (Character.isLetterOrDigit(chr)
+                || chr == '_' || chr == '$') {
+                final int start = idx;
+                while (idx < expr.length()
+                    && (Character.isLetterOrDigit(expr.charAt(idx))
+                    || expr.charAt(idx) == '_' || expr.charAt(idx) == '$')) {
+                    ++idx;
+                }
+                tokens.add(MemoryParser.WORD + expr.substring(start, idx));
+            } else if (idx + 1 < expr.length() && MemoryParser.PAIRS.contains(
+                expr.substring(idx, idx + 2)
+            )) {
+                tokens.add(MemoryParser.SYMBOL + expr.substring(idx, idx + 2));
+                idx += 2;
+            } else if ("()*,=<>".indexOf(chr) >= 0) {
+                tokens.add(MemoryParser.SYMBOL + String.valueOf(chr));
+                ++idx;
+            } else {
+                throw MemoryParser.invalid(expr, idx);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Read a quoted name or a literal, where a doubled quote
+     * stands for the quote itself.
+     * @param expr Expression
+     * @param start Position of the opening quote
+     * @param text Where to append the text without quotes
+     * @return Position after the closing quote
+     */
+    private static int quoted(final String expr, final int start,
+        final StringBuilder text) {
+        final char quote = expr.charAt(start);
+        int idx = start + 1;
+        while (true) {
+            if (idx >= expr.length()) {
+                throw MemoryParser.invalid(expr, start);
+            }
+            final char chr = expr.charAt(idx);
+            ++idx;
+            if (chr == quote) {
+                if (idx < expr.length() && expr.charAt(idx) == quote) {
+                    ++idx;
+                } else {
+                    break;
+                }
+            }
+            text.append(chr);
+        }
+        return idx;
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.Attribute;
+import com.amazonaws.services.simpledb.model.SelectResult;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.BiPredicate;
+
+/**
+ * Select query, parsed by {@link MemoryParser} and run by
+ * {@link MemorySimpleDB} on the items in memory.
+ *
+ * <p>Items are returned in the order of their names, unless another
+ * order is requested; items with equal values of the attribute to sort
+ * by are ordered by their names. Tokens of the next page carry the
+ * value to sort by and the name of the last item returned, so that
+ * every page is picked in one pass over the items, without sorting
+ * all of them and skipping the ones returned before. Tokens of
+ * counts are numbers of items counted.
+ *
+ * @since 1.0
+ */
+final class MemoryQuery {
+
+    /**
+     * Output of all attributes.
+     */
+    static final String ALL = "*";
+
+    /**
+     * Output and subject of item name.
+     */
+    static final String NAME = "itemName()";
+
+    /**
+     * Output of number of items.
+     */
+    static final String COUNT = "count(*)";
+
+    /**
+     * Number of items in a page, by default.
+     */
+    private static final int PAGE = 100;
+
+    /**
+     * Domain name.
+     */
+    private final transient String table;
+
+    /**
+     * Output: names of attributes, or one of the constants.
+     */
+    private final transient Collection<String> output;
+
+    /**
+     * Condition of items to select.
+     */
+    private final transient BiPredicate<String, Map<String, List<String>>>
+        where;
+
+    /**
+     * Attribute to sort by, {@link #NAME} or NULL.
+     */
+    private final transient String sort;
+
+    /**
+     * Sort in descending order?
+     */
+    private final transient boolean descending;
+
+    /**
+     * Maximum number of items in a page, or zero if not set.
+     */
+    private final transient int limit;
+
+    /**
+     * Ctor.
+     * @param name Domain name
+     * @param out Output: names of attributes, or one of the constants
+     * @param cond Condition of items to select
+     * @param order Attribute to sort by, {@link #NAME} or NULL
+     * @param desc Sort in descending order?
+     * @param max Maximum number of items in a page, or zero if not set
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    MemoryQuery(final String name, final Collection<String> out,
+        final BiPredicate<String, Map<String, List<String>>> cond,
+        final String order, final boolean desc, final int max) {
+        this.table = name;
+        this.output = out;
+        this.where = cond;
+        this.sort = order;
+        this.descending = desc;
+        this.limit = max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s from %s", this.output, this.table);
+    }
+
+    /**
+     * Get domain name.
+     * @return Name
+     */
+    String domain() {
+        return this.table;
+    }
+
+    /**
+     * Run it.
+     * @param items Items of the domain, by names
+     * @param token Token of the page, or NULL for the first one
+     * @return Page of the result
+     */
+    SelectResult run(final Map<String, Map<String, List<String>>> items,
+        final String token) {
+        final SelectResult result;
+        if (this.output.contains(MemoryQuery.COUNT)) {
+            int total = 0;
+            for (final Map.Entry<String, Map<String, List<String>>> item
+                : items.entrySet()) {
+                if (this.matches(item)) {
+                    ++total;
+                }
+            }
+            result = this.count(total, MemoryQuery.offset(token));
+        } else {
+            result = this.page(items, MemoryQuery.last(token));
+        }
+        return result;
+    }
+
+    /**
+     * Make a result with the number of items.
+     *
+     * <p>As in SimpleDB, not more than the limit is counted in a page,
+     * the rest is counted in the next pages.
+     *
+     * @param total Number of items found
+     * @param offset Number of items counted in previous pages
+     * @return Result
+     */
+    private SelectResult count(final int total, final int offset) {
+        int number = Math.max(0, total - offset);
+        if (this.limit > 0) {
+            number = Math.min(number, this.limit);
+        }
+        final SelectResult result = new SelectResult().withItems(
+            new com.amazonaws.services.simpledb.model.Item()
+                .withName("Domain")
+                .withAttributes(
+                    new Attribute("Count", Integer.toString(number))
+                )
+        );
+        if (offset + number < total) {
+            result.setNextToken(Integer.toString(offset + number));
+        }
+        return result;
+    }
+
+    /**
+     * Make a page of items.
+     *
+     * <p>Items after the last one returned are picked in one pass,
+     * keeping not more than a page of the smallest of them.
+     *
+     * @param items Items of the domain, by names
+     * @param last Sort key of the last item returned, or NULL
+     * @return Result
+     */
+    private SelectResult page(
+        final Map<String, Map<String, List<String>>> items,
+        final Map.Entry<String, String> last) {
+        int size = this.limit;
+        if (size == 0) {
+            size = MemoryQuery.PAGE;
+        }
+        final Comparator<Map.Entry<String, String>> order = this.order();
+        final PriorityQueue<Map.Entry<String, Map<String, List<String>>>> top =
+            new PriorityQueue<>(
+                size + 1,
+                Comparator.comparing(this::key, order).reversed()
+            );
+        boolean more = false;
+        for (final Map.Entry<String, Map<String, List<String>>> item
+            : items.entrySet()) {
+            if (this.matches(item)
+                && (last == null || order.compare(this.key(item), last) > 0)) {
+                top.add(item);
+                if (top.size() > size) {
+                    top.poll();
+                    more = true;
+                }
+            }
+        }
+        final List<com.amazonaws.services.simpledb.model.Item> page =
+            new ArrayList<>(top.size());
+        final SelectResult result = new SelectResult();
+        if (more) {
+            result.setNextToken(MemoryQuery.token(this.key(top.peek())));
+        }
+        while (!top.isEmpty()) {
+            final Map.Entry<String, Map<String, List<String>>> item =
+                top.poll();
+            page.add(
+                new com.amazonaws.services.simpledb.model.Item()
+                    .withName(item.getKey())
+                    .withAttributes(this.attrs(item.getValue()))
+            );
+        }
+        Collections.reverse(page);
+        return result.withItems(page);
+    }
+
+    /**
+     * Check whether the item is selected.
+     * @param item Item, with its attributes
+     * @return TRUE if it is
+     */
+    private boolean matches(
+        final Map.Entry<String, Map<String, List<String>>> item) {
+        return this.where.test(item.getKey(), item.getValue())
+            && (this.sort == null || MemoryQuery.NAME.equals(this.sort)
+            || item.getValue().containsKey(this.sort));
+    }
+
+    /**
+     * Make the sort key of an item: the value to sort by and its name.
+     * @param item Item, with its attributes
+     * @return Key
+     */
+    private Map.Entry<String, String> key(
+        final Map.Entry<String, Map<String, List<String>>> item) {
+        final String value;
+        if (this.sort == null || MemoryQuery.NAME.equals(this.sort)) {
+            value = item.getKey();
+        } else {
+            value = item.getValue().get(this.sort).get(0);
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(value, item.getKey());
+    }
+
+    /**
+     * Make attributes of an item to output.
+     * @param values Values of attributes, by names
+     * @return Attributes to output
+     */
+    private Collection<Attribute> attrs(
+        final Map<String, List<String>> values) {
+        final Collection<Attribute> attrs = new ArrayList<>(values.size());
+        if (!this.output.contains(MemoryQuery.NAME)) {
+            for (final Map.Entry<String, List<String>> entry
+                : values.entrySet()) {
+                if (this.output.contains(MemoryQuery.ALL)
+                    || this.output.contains(entry.getKey())) {
+                    for (final String value : entry.getValue()) {
+                        attrs.add(new Attribute(entry.getKey(), value));
+                    }
+                }
+            }
+        }
+        return attrs;
+    }
+
+    /**
+     * Make an order of sort keys of items.
+     * @return Comparator
+     */
+    private Comparator<Map.Entry<String, String>> order() {
+        Comparator<Map.Entry<String, String>> order =
+            Map.Entry.<String, String>comparingByKey()
+                .thenComparing(Map.Entry.comparingByValue());
+        if (this.descending) {
+            order = order.reversed();
+        }
+        return order;
+    }
+
+    /**
+     * Make the token of the next page.
+     * @param key Sort key of the last item returned
+     * @return Token
+     */
+    private static String token(final Map.Entry<String, String> key) {
+        return Base64.getUrlEncoder().encodeToString(
+            String.format(
+                "%d:%s%s", key.getKey().length(), key.getKey(), key.getValue()
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Parse the token of the next page of items.
+     * @param token Token or NULL
+     * @return Sort key of the last item returned, or NULL
+     */
+    private static Map.Entry<String, String> last(final String token) {
+        Map.Entry<String, String> key = null;
+        if (token != null) {
+            try {
+                final String text = new String(
+                    Base64.getUrlDecoder().decode(token),
+                    StandardCharsets.UTF_8
+                );
+                final int colon = text.indexOf(':');
+                final int end = colon + 1 + Integer.parseInt(
+                    text.substring(0, colon)
+                );
+                key = new AbstractMap.SimpleImmutableEntry<>(
+                    text.substring(colon + 1, end), text.substring(end)
+                );
+            } catch (final IllegalArgumentException
+                | IndexOutOfBoundsException ex) {
+                throw MemorySimpleDB.error(
+                    "InvalidNextToken", 400,
+                    String.format("Invalid next token '%s'", token)
+                );
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Parse the token of the next page of counts.
+     * @param token Token or NULL
+     * @return Offset
+     */
+    private static int offset(final String token) {
+        int offset = 0;
+        if (token != null) {
+            try {
+                offset = Integer.parseInt(token);
+            } catch (final NumberFormatException ex) {
+                throw MemorySimpleDB.error(
+                    "InvalidNextToken", 400,
+                    String.format("Invalid next token '%s'", token)
+                );
+            }
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,458 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.services.simpledb.AbstractAmazonSimpleDB;
+import com.amazonaws.services.simpledb.SimpleDBResponseMetadata;
+import com.amazonaws.services.simpledb.model.Attribute;
+import com.amazonaws.services.simpledb.model.BatchDeleteAttributesRequest;
+import com.amazonaws.services.simpledb.model.BatchDeleteAttributesResult;
+import com.amazonaws.services.simpledb.model.BatchPutAttributesRequest;
+import com.amazonaws.services.simpledb.model.BatchPutAttributesResult;
+import com.amazonaws.services.simpledb.model.CreateDomainRequest;
+import com.amazonaws.services.simpledb.model.CreateDomainResult;
+import com.amazonaws.services.simpledb.model.DeletableItem;
+import com.amazonaws.services.simpledb.model.DeleteAttributesRequest;
+import com.amazonaws.services.simpledb.model.DeleteAttributesResult;
+import com.amazonaws.services.simpledb.model.DeleteDomainRequest;
+import com.amazonaws.services.simpledb.model.DeleteDomainResult;
+import com.amazonaws.services.simpledb.model.DomainMetadataRequest;
+import com.amazonaws.services.simpledb.model.DomainMetadataResult;
+import com.amazonaws.services.simpledb.model.GetAttributesRequest;
+import com.amazonaws.services.simpledb.model.GetAttributesResult;
+import com.amazonaws.services.simpledb.model.ListDomainsRequest;
+import com.amazonaws.services.simpledb.model.ListDomainsResult;
+import com.amazonaws.services.simpledb.model.PutAttributesRequest;
+import com.amazonaws.services.simpledb.model.PutAttributesResult;
+import com.amazonaws.services.simpledb.model.ReplaceableAttribute;
+import com.amazonaws.services.simpledb.model.ReplaceableItem;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.amazonaws.services.simpledb.model.SelectResult;
+import com.amazonaws.services.simpledb.model.UpdateCondition;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AWS client, which keeps all domains in memory, used by
+ * {@link Region.InMemory}.
+ *
+ * <p>Attributes of every item are an immutable map, which is replaced
+ * as a whole, atomically, on every write. Reads and selects never lock
+ * and see every item either before or after a write. Errors are
+ * reported with the same codes SimpleDB uses.
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle ClassFanOutComplexityCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class MemorySimpleDB extends AbstractAmazonSimpleDB {
+
+    /**
+     * Maximum number of queries parsed and kept.
+     */
+    private static final int QUERIES = 1000;
+
+    /**
+     * Domains, by names, with items, by names.
+     */
+    private final transient ConcurrentMap<String,
+        ConcurrentMap<String, Map<String, List<String>>>> domains;
+
+    /**
+     * Queries parsed, by expressions.
+     */
+    private final transient ConcurrentMap<String, MemoryQuery> queries;
+
+    /**
+     * Ctor.
+     */
+    MemorySimpleDB() {
+        super();
+        this.domains = new ConcurrentHashMap<>(0);
+        this.queries = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d domain(s) in memory", this.domains.size());
+    }
+
+    @Override
+    public CreateDomainResult createDomain(final CreateDomainRequest req) {
+        this.domains.putIfAbsent(
+            req.getDomainName(), new ConcurrentHashMap<>(0)
+        );
+        return new CreateDomainResult();
+    }
+
+    @Override
+    public DeleteDomainResult deleteDomain(final DeleteDomainRequest req) {
+        this.domains.remove(req.getDomainName());
+        return new DeleteDomainResult();
+    }
+
+    @Override
+    public ListDomainsResult listDomains(final ListDomainsRequest req) {
+        return new ListDomainsResult().withDomainNames(
+            new TreeSet<>(this.domains.keySet())
+        );
+    }
+
+    @Override
+    public ListDomainsResult listDomains() {
+        return this.listDomains(new ListDomainsRequest());
+    }
+
+    @Override
+    public DomainMetadataResult domainMetadata(
+        final DomainMetadataRequest req) {
+        final Set<String> names = new HashSet<>(0);
+        long values = 0L;
+        long ibytes = 0L;
+        long nbytes = 0L;
+        long vbytes = 0L;
+        final Map<String, Map<String, List<String>>> items =
+            this.domain(req.getDomainName());
+        for (final Map.Entry<String, Map<String, List<String>>> item
+            : items.entrySet()) {
+            ibytes += (long) MemorySimpleDB.length(item.getKey());
+            for (final Map.Entry<String, List<String>> attr
+                : item.getValue().entrySet()) {
+                if (names.add(attr.getKey())) {
+                    nbytes += (long) MemorySimpleDB.length(attr.getKey());
+                }
+                for (final String value : attr.getValue()) {
+                    ++values;
+                    vbytes += (long) MemorySimpleDB.length(value);
+                }
+            }
+        }
+        return new DomainMetadataResult()
+            .withItemCount(items.size())
+            .withItemNamesSizeBytes(ibytes)
+            .withAttributeNameCount(names.size())
+            .withAttributeNamesSizeBytes(nbytes)
+            .withAttributeValueCount((int) values)
+            .withAttributeValuesSizeBytes(vbytes)
+            .withTimestamp(
+                (int) TimeUnit.MILLISECONDS.toSeconds(
+                    System.currentTimeMillis()
+                )
+            );
+    }
+
+    @Override
+    public GetAttributesResult getAttributes(final GetAttributesRequest req) {
+        final Map<String, List<String>> item = this.domain(req.getDomainName())
+            .getOrDefault(req.getItemName(), Collections.emptyMap());
+        final Collection<String> names = req.getAttributeNames();
+        final Collection<Attribute> attrs = new ArrayList<>(item.size());
+        for (final Map.Entry<String, List<String>> entry : item.entrySet()) {
+            if (names.isEmpty() || names.contains(entry.getKey())) {
+                for (final String value : entry.getValue()) {
+                    attrs.add(new Attribute(entry.getKey(), value));
+                }
+            }
+        }
+        return new GetAttributesResult().withAttributes(attrs);
+    }
+
+    @Override
+    public PutAttributesResult putAttributes(final PutAttributesRequest req) {
+        this.put(
+            this.domain(req.getDomainName()), req.getItemName(),
+            req.getAttributes(), req.getExpected()
+        );
+        return new PutAttributesResult();
+    }
+
+    @Override
+    public BatchPutAttributesResult batchPutAttributes(
+        final BatchPutAttributesRequest req) {
+        final ConcurrentMap<String, Map<String, List<String>>> items =
+            this.domain(req.getDomainName());
+        for (final ReplaceableItem item : req.getItems()) {
+            this.put(items, item.getName(), item.getAttributes(), null);
+        }
+        return new BatchPutAttributesResult();
+    }
+
+    @Override
+    public DeleteAttributesResult deleteAttributes(
+        final DeleteAttributesRequest req) {
+        this.delete(
+            this.domain(req.getDomainName()), req.getItemName(),
+            req.getAttributes(), req.getExpected()
+        );
+        return new DeleteAttributesResult();
+    }
+
+    @Override
+    public BatchDeleteAttributesResult batchDeleteAttributes(
+        final BatchDeleteAttributesRequest req) {
+        final ConcurrentMap<String, Map<String, List<String>>> items =
+            this.domain(req.getDomainName());
+        for (final DeletableItem item : req.getItems()) {
+            this.delete(items, item.getName(), item.getAttributes(), null);
+        }
+        return new BatchDeleteAttributesResult();
+    }
+
+    @Override
+    public SelectResult select(final SelectRequest req) {
+        MemoryQuery query = this.queries.get(req.getSelectExpression());
+        if (query == null) {
+            query = new MemoryParser(req.getSelectExpression()).query();
+            if (this.queries.size() >= MemorySimpleDB.QUERIES) {
+                this.queries.clear();
+            }
+            this.queries.put(req.getSelectExpression(), query);
+        }
+        return query.run(this.domain(query.domain()), req.getNextToken());
+    }
+
+    /**
+     * Do nothing, there is nothing to shut down.
+     *
+     * <p>The method mirrors the one of AWS client, since the interface
+     * of SimpleDB client doesn't declare it.
+     */
+    public void shutdown() {
+        // nothing to release, domains are gone with the client
+    }
+
+    /**
+     * There is no metadata of responses in memory.
+     * @param request The request
+     * @return Always NULL
+     */
+    public SimpleDBResponseMetadata getCachedResponseMetadata(
+        final AmazonWebServiceRequest request) {
+        return null;
+    }
+
+    /**
+     * Make an error, the way SimpleDB reports it.
+     * @param code Error code
+     * @param status HTTP status code
+     * @param message Error message
+     * @return Error to throw
+     */
+    static AmazonServiceException error(final String code, final int status,
+        final String message) {
+        final AmazonServiceException error =
+            new AmazonServiceException(message);
+        error.setErrorCode(code);
+        error.setStatusCode(status);
+        error.setServiceName("AmazonSimpleDB");
+        error.setErrorType(AmazonServiceException.ErrorType.Client);
+        return error;
+    }
+
+    /**
+     * Put attributes to an item.
+     * @param items Items of the domain
+     * @param name Name of the item
+     * @param attrs Attributes to put
+     * @param expected Condition or NULL
+     */
+    private void put(
+        final ConcurrentMap<String, Map<String, List<String>>> items,
+        final String name, final Collection<ReplaceableAttribute> attrs,
+        final UpdateCondition expected) {
+        items.compute(
+            name,
+            (key, before) -> {
+                final Map<String, List<String>> origin =
+                    MemorySimpleDB.existing(before);
+                MemorySimpleDB.check(origin, expected);
+                final Map<String, List<String>> after =
+                    new LinkedHashMap<>(origin);
+                for (final ReplaceableAttribute attr : attrs) {
+                    if (attr.getReplace() != null && attr.getReplace()) {
+                        after.remove(attr.getName());
+                    }
+                }
+                for (final ReplaceableAttribute attr : attrs) {
+                    final List<String> values = new ArrayList<>(
+                        after.getOrDefault(
+                            attr.getName(), Collections.emptyList()
+                        )
+                    );
+                    if (!values.contains(attr.getValue())) {
+                        values.add(attr.getValue());
+                    }
+                    after.put(
+                        attr.getName(), Collections.unmodifiableList(values)
+                    );
+                }
+                return MemorySimpleDB.stored(after);
+            }
+        );
+    }
+
+    /**
+     * Delete attributes of an item.
+     * @param items Items of the domain
+     * @param name Name of the item
+     * @param attrs Attributes to delete, the whole item if empty
+     * @param expected Condition or NULL
+     */
+    private void delete(
+        final ConcurrentMap<String, Map<String, List<String>>> items,
+        final String name, final Collection<Attribute> attrs,
+        final UpdateCondition expected) {
+        items.compute(
+            name,
+            (key, before) -> {
+                final Map<String, List<String>> origin =
+                    MemorySimpleDB.existing(before);
+                MemorySimpleDB.check(origin, expected);
+                final Map<String, List<String>> after =
+                    new LinkedHashMap<>(origin);
+                if (attrs.isEmpty()) {
+                    after.clear();
+                }
+                for (final Attribute attr : attrs) {
+                    if (attr.getValue() == null) {
+                        after.remove(attr.getName());
+                    } else if (after.containsKey(attr.getName())) {
+                        final List<String> values =
+                            new ArrayList<>(after.get(attr.getName()));
+                        values.remove(attr.getValue());
+                        if (values.isEmpty()) {
+                            after.remove(attr.getName());
+                        } else {
+                            after.put(
+                                attr.getName(),
+                                Collections.unmodifiableList(values)
+                            );
+                        }
+                    }
+                }
+                return MemorySimpleDB.stored(after);
+            }
+        );
+    }
+
+    /**
+     * Get items of a domain or fail if there is no such domain.
+     * @param name Name of the domain
+     * @return Items, by names
+     */
+    private ConcurrentMap<String, Map<String, List<String>>> domain(
+        final String name) {
+        final ConcurrentMap<String, Map<String, List<String>>> items =
+            this.domains.get(name);
+        if (items == null) {
+            throw MemorySimpleDB.error(
+                "NoSuchDomain", 400,
+                String.format("The specified domain '%s' does not exist", name)
+            );
+        }
+        return items;
+    }
+
+    /**
+     * Make sure the condition of a write holds.
+     * @param attrs Attributes of the item before the write
+     * @param expected Condition or NULL
+     */
+    private static void check(final Map<String, List<String>> attrs,
+        final UpdateCondition expected) {
+        if (expected != null && expected.getName() != null) {
+            final List<String> values = attrs.get(expected.getName());
+            if (expected.getExists() != null && !expected.getExists()) {
+                if (values != null) {
+                    throw MemorySimpleDB.error(
+                        "ConditionalCheckFailed", 409,
+                        String.format(
+                            "Attribute '%s' exists", expected.getName()
+                        )
+                    );
+                }
+            } else if (values == null) {
+                throw MemorySimpleDB.error(
+                    "AttributeDoesNotExist", 404,
+                    String.format(
+                        "Attribute '%s' does not exist", expected.getName()
+                    )
+                );
+            } else if (values.size() > 1) {
+                throw MemorySimpleDB.error(
+                    "MultiValuedAttribute", 409,
+                    String.format(
+                        "Attribute '%s' has multiple values",
+                        expected.getName()
+                    )
+                );
+            } else if (!values.get(0).equals(expected.getValue())) {
+                throw MemorySimpleDB.error(
+                    "ConditionalCheckFailed", 409,
+                    String.format(
+                        "Attribute '%s' value is '%s', not '%s'",
+                        expected.getName(), values.get(0),
+                        expected.getValue()
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Attributes of an item, which may be absent.
+     * @param attrs Attributes or NULL
+     * @return Attributes, maybe empty
+     */
+    private static Map<String, List<String>> existing(
+        final Map<String, List<String>> attrs) {
+        final Map<String, List<String>> existing;
+        if (attrs == null) {
+            existing = Collections.emptyMap();
+        } else {
+            existing = attrs;
+        }
+        return existing;
+    }
+
+    /**
+     * Attributes to store, or NULL if the item has to go.
+     * @param attrs Attributes
+     * @return Immutable attributes or NULL
+     */
+    private static Map<String, List<String>> stored(
+        final Map<String, List<String>> attrs) {
+        final Map<String, List<String>> stored;
+        if (attrs.isEmpty()) {
+            stored = null;
+        } else {
+            stored = Collections.unmodifiableMap(attrs);
+        }
+        return stored;
+    }
+
+    /**
+     * Size of a text in bytes.
+     * @param text Text
+     * @return Bytes in UTF-8
+     */
+    private static int length(final String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.DomainMetadataResult;
+import com.jcabi.aspects.Immutable;
+import java.time.Instant;
+import javax.validation.constraints.NotNull;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Size of a domain, as SimpleDB reports it.
+ *
+ * <p>SimpleDB calculates the numbers periodically, not on every write,
+ * see {@link #timestamp()}. Use {@link #usage()} to see how close the
+ * domain is to the limits of SimpleDB, which are 10 GB and one billion
+ * attribute values per domain, for example:
+ *
+ * <pre> if (domain.metadata().usage() &gt; 0.8d) {
+ *   // time to add another domain
+ * }</pre>
+ *
+ * @since 1.0
+ */
+@Immutable
+@EqualsAndHashCode
+@SuppressWarnings("PMD.DataClass")
+public final class Metadata {
+
+    /**
+     * Maximum size of a domain, in bytes.
+     */
+    public static final long MAX_BYTES = 10L * 1024L * 1024L * 1024L;
+
+    /**
+     * Maximum number of attribute values in a domain.
+     */
+    public static final long MAX_VALUES = 1_000_000_000L;
+
+    /**
+     * Number of items.
+     */
+    private final transient long icount;
+
+    /**
+     * Number of unique attribute names.
+     */
+    private final transient long ncount;
+
+    /**
+     * Number of attribute values, name/value pairs.
+     */
+    private final transient long vcount;
+
+    /**
+     * Size of item names, in bytes.
+     */
+    private final transient long ibytes;
+
+    /**
+     * Size of unique attribute names, in bytes.
+     */
+    private final transient long nbytes;
+
+    /**
+     * Size of attribute values, in bytes.
+     */
+    private final transient long vbytes;
+
+    /**
+     * When the numbers were calculated, in seconds since the epoch.
+     */
+    private final transient long time;
+
+    /**
+     * How close the domain is to the limits of SimpleDB.
+     */
+    private final transient double share;
+
+    /**
+     * Ctor.
+     * @param result Result of DomainMetadata call
+     */
+    Metadata(final DomainMetadataResult result) {
+        this(result, Metadata.usage(result));
+    }
+
+    /**
+     * Ctor.
+     * @param result Result of DomainMetadata call
+     * @param usage How close the domain is to the limits of SimpleDB
+     */
+    Metadata(final DomainMetadataResult result, final double usage) {
+        this(
+            Metadata.number(result.getItemCount()),
+            Metadata.number(result.getAttributeNameCount()),
+            Metadata.number(result.getAttributeValueCount()),
+            Metadata.number(result.getItemNamesSizeBytes()),
+            Metadata.number(result.getAttributeNamesSizeBytes()),
+            Metadata.number(result.getAttributeValuesSizeBytes()),
+            Metadata.number(result.getTimestamp()),
+            usage
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param items Number of items
+     * @param names Number of unique attribute names
+     * @param values Number of attribute values
+     * @param inames Size of item names, in bytes
+     * @param anames Size of unique attribute names, in bytes
+     * @param avalues Size of attribute values, in bytes
+     * @param seconds When the numbers were calculated
+     * @param usage How close the domain is to the limits of SimpleDB
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Metadata(final long items, final long names, final long values,
+        final long inames, final long anames, final long avalues,
+        final long seconds, final double usage) {
+        this.share = usage;
+        this.icount = items;
+        this.ncount = names;
+        this.vcount = values;
+        this.ibytes = inames;
+        this.nbytes = anames;
+        this.vbytes = avalues;
+        this.time = seconds;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d items, %d values, %d bytes",
+            this.icount, this.vcount, this.bytes()
+        );
+    }
+
+    /**
+     * Number of items.
+     * @return Count
+     */
+    public long items() {
+        return this.icount;
+    }
+
+    /**
+     * Number of unique attribute names.
+     * @return Count
+     */
+    public long attributeNames() {
+        return this.ncount;
+    }
+
+    /**
+     * Number of attribute values, name/value pairs.
+     * @return Count
+     */
+    public long attributeValues() {
+        return this.vcount;
+    }
+
+    /**
+     * Size of item names, in bytes.
+     * @return Bytes
+     */
+    public long itemNamesBytes() {
+        return this.ibytes;
+    }
+
+    /**
+     * Size of unique attribute names, in bytes.
+     * @return Bytes
+     */
+    public long attributeNamesBytes() {
+        return this.nbytes;
+    }
+
+    /**
+     * Size of attribute values, in bytes.
+     * @return Bytes
+     */
+    public long attributeValuesBytes() {
+        return this.vbytes;
+    }
+
+    /**
+     * Size of the domain: item names, attribute names and values.
+     * @return Bytes
+     */
+    public long bytes() {
+        return this.ibytes + this.nbytes + this.vbytes;
+    }
+
+    /**
+     * When the numbers were calculated.
+     * @return Time
+     */
+    @NotNull(message = "time is never NULL")
+    public Instant timestamp() {
+        return Instant.ofEpochSecond(this.time);
+    }
+
+    /**
+     * How close the domain is to the limits of SimpleDB.
+     *
+     * <p>For a {@link ShardedDomain} it's the usage of its fullest shard.
+     *
+     * @return Share of {@link #MAX_BYTES} or {@link #MAX_VALUES},
+     *  whichever is bigger, from zero to one
+     */
+    public double usage() {
+        return this.share;
+    }
+
+    /**
+     * Merge with metadata of another shard of the same logical domain.
+     *
+     * <p>Items, values and their bytes are summed up, while attribute
+     * names, which shards mostly share, are of the shard with most of
+     * them. The time is of the oldest numbers, and the usage is of
+     * the fullest shard. Numbers are kept as longs, since shards
+     * together may have more than {@link Integer#MAX_VALUE} of them.
+     *
+     * @param shard Metadata of another shard
+     * @return Metadata of both shards
+     */
+    Metadata merged(final Metadata shard) {
+        return new Metadata(
+            this.icount + shard.icount,
+            Math.max(this.ncount, shard.ncount),
+            this.vcount + shard.vcount,
+            this.ibytes + shard.ibytes,
+            Math.max(this.nbytes, shard.nbytes),
+            this.vbytes + shard.vbytes,
+            Math.min(this.time, shard.time),
+            Math.max(this.share, shard.share)
+        );
+    }
+
+    /**
+     * Calculate how close the domain is to the limits of SimpleDB.
+     * @param result Result of DomainMetadata call
+     * @return Share of {@link #MAX_BYTES} or {@link #MAX_VALUES},
+     *  whichever is bigger
+     */
+    private static double usage(final DomainMetadataResult result) {
+        final long bytes = Metadata.number(result.getItemNamesSizeBytes())
+            + Metadata.number(result.getAttributeNamesSizeBytes())
+            + Metadata.number(result.getAttributeValuesSizeBytes());
+        return Math.max(
+            (double) bytes / (double) Metadata.MAX_BYTES,
+            (double) Metadata.number(result.getAttributeValueCount())
+                / (double) Metadata.MAX_VALUES
+        );
+    }
+
+    /**
+     * Number reported, or zero if it's absent.
+     * @param value Number or NULL
+     * @return Number
+     */
+    private static long number(final Number value) {
+        long number = 0L;
+        if (value != null) {
+            number = value.longValue();
+        }
+        return number;
+    }
+}
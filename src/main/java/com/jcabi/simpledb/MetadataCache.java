@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Metadata of domains, kept for a short while.
+ *
+ * <p>SimpleDB recalculates metadata of a domain periodically, so there
+ * is no point to ask for it on every call. Metadata is loaded once per
+ * credentials and domain, and then returned until its lifetime is over.
+ * Threads asking for the same metadata at the same time wait for
+ * one load, which is made outside of the map, so loads of other domains
+ * are not blocked by it. Expired metadata is evicted whenever new
+ * metadata is loaded, that's why the cache doesn't keep credentials
+ * of forgotten domains, with their clients, for long. A failed load
+ * is not kept, the next call tries again.
+ *
+ * @since 1.0
+ */
+final class MetadataCache {
+
+    /**
+     * Metadata shared by all domains in this JVM.
+     */
+    static final MetadataCache SHARED =
+        new MetadataCache(TimeUnit.MINUTES.toNanos(1L));
+
+    /**
+     * Lifetime of metadata, in nanoseconds.
+     */
+    private final transient long lifetime;
+
+    /**
+     * Metadata by credentials and domain names.
+     */
+    private final transient ConcurrentMap<Map.Entry<Credentials, String>,
+        MetadataCache.Entry> entries;
+
+    /**
+     * Ctor.
+     * @param nanos Lifetime of metadata, in nanoseconds
+     */
+    MetadataCache(final long nanos) {
+        this.lifetime = nanos;
+        this.entries = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Get metadata of the domain, loading it if necessary.
+     * @param creds Credentials
+     * @param table Domain name
+     * @param loader Loader of fresh metadata
+     * @return Metadata
+     */
+    Metadata metadata(final Credentials creds, final String table,
+        final Supplier<Metadata> loader) {
+        final Map.Entry<Credentials, String> key =
+            new AbstractMap.SimpleImmutableEntry<>(creds, table);
+        MetadataCache.Entry entry = this.entries.get(key);
+        if (entry == null || entry.expired(this.lifetime)) {
+            this.evict();
+            final MetadataCache.Entry fresh = new MetadataCache.Entry();
+            entry = this.entries.compute(
+                key,
+                (name, before) -> {
+                    final MetadataCache.Entry after;
+                    if (before == null || before.expired(this.lifetime)) {
+                        after = fresh;
+                    } else {
+                        after = before;
+                    }
+                    return after;
+                }
+            );
+            if (entry.equals(fresh)) {
+                try {
+                    fresh.load(loader);
+                } catch (final RuntimeException ex) {
+                    this.entries.remove(key, fresh);
+                    throw ex;
+                }
+            }
+        }
+        return entry.metadata();
+    }
+
+    /**
+     * Forget metadata of the domain, if it's known.
+     * @param creds Credentials
+     * @param table Domain name
+     */
+    void forget(final Credentials creds, final String table) {
+        this.entries.remove(
+            new AbstractMap.SimpleImmutableEntry<>(creds, table)
+        );
+    }
+
+    /**
+     * Remove all expired metadata.
+     */
+    private void evict() {
+        this.entries.values().removeIf(entry -> entry.expired(this.lifetime));
+    }
+
+    /**
+     * Metadata with the time it was loaded.
+     * @since 1.0
+     */
+    private static final class Entry {
+
+        /**
+         * Metadata, when it's loaded.
+         */
+        private final transient CompletableFuture<Metadata> future;
+
+        /**
+         * When it was loaded, in nanoseconds.
+         */
+        private final transient long start;
+
+        /**
+         * Ctor.
+         */
+        Entry() {
+            this.future = new CompletableFuture<>();
+            this.start = System.nanoTime();
+        }
+
+        /**
+         * Load metadata, waking up all threads waiting for it.
+         * @param loader Loader of fresh metadata
+         */
+        void load(final Supplier<Metadata> loader) {
+            try {
+                this.future.complete(loader.get());
+            } catch (final RuntimeException ex) {
+                this.future.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+
+        /**
+         * Get metadata, waiting for it to load if necessary.
+         * @return Metadata
+         */
+        Metadata metadata() {
+            try {
+                return this.future.join();
+            } catch (final CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw RuntimeException.class.cast(ex.getCause());
+                }
+                throw ex;
+            }
+        }
+
+        /**
+         * Is it expired?
+         * @param nanos Lifetime, in nanoseconds
+         * @return TRUE if it's time to load it again
+         */
+        boolean expired(final long nanos) {
+            return System.nanoTime() - this.start > nanos;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.model.Attribute;
+import com.amazonaws.services.simpledb.model.BatchPutAttributesRequest;
+import com.amazonaws.services.simpledb.model.GetAttributesResult;
+import com.amazonaws.services.simpledb.model.PutAttributesRequest;
+import com.amazonaws.services.simpledb.model.ReplaceableAttribute;
+import com.amazonaws.services.simpledb.model.ReplaceableItem;
+import com.amazonaws.services.simpledb.model.SelectResult;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Interceptor, which reports metrics of calls.
+ *
+ * @since 1.0
+ */
+final class Meter implements Interceptor {
+
+    /**
+     * Metrics to report to.
+     */
+    private final transient Metrics metrics;
+
+    /**
+     * Box usage of calls.
+     */
+    private final transient BoxUsage usage;
+
+    /**
+     * Ctor.
+     * @param mtr Metrics to report to
+     * @param aws Client making calls
+     */
+    Meter(final Metrics mtr, final AmazonSimpleDB aws) {
+        this.metrics = mtr;
+        this.usage = new BoxUsage(aws);
+    }
+
+    @Override
+    public <T> T intercept(final String action, final String domain,
+        final AmazonWebServiceRequest request, final Supplier<T> call) {
+        final long start = System.nanoTime();
+        final T result;
+        try {
+            result = call.get();
+        } catch (final AmazonClientException ex) {
+            this.metrics.count(action, domain, Metrics.ERRORS, 1.0d);
+            if (ex instanceof AmazonServiceException
+                && "ServiceUnavailable".equals(
+                    AmazonServiceException.class.cast(ex).getErrorCode()
+                )) {
+                this.metrics.count(action, domain, Metrics.THROTTLED, 1.0d);
+            }
+            throw ex;
+        } finally {
+            this.metrics.time(action, domain, System.nanoTime() - start);
+        }
+        if (result instanceof SelectResult) {
+            this.metrics.count(
+                action, domain, Metrics.ITEMS,
+                (double) SelectResult.class.cast(result).getItems().size()
+            );
+        }
+        final long bytes = Meter.bytes(request) + Meter.bytes(result);
+        if (bytes > 0L) {
+            this.metrics.count(action, domain, Metrics.BYTES, (double) bytes);
+        }
+        final double box = this.usage.of(request);
+        if (box > 0.0d) {
+            this.metrics.count(action, domain, Metrics.BOX_USAGE, box);
+        }
+        return result;
+    }
+
+    /**
+     * Count bytes of names and values in a request or result.
+     * @param msg Request or result
+     * @return Bytes, approximately
+     */
+    private static long bytes(final Object msg) {
+        long total = 0L;
+        if (msg instanceof GetAttributesResult) {
+            total = Meter.attrs(
+                GetAttributesResult.class.cast(msg).getAttributes()
+            );
+        } else if (msg instanceof SelectResult) {
+            for (final com.amazonaws.services.simpledb.model.Item item
+                : SelectResult.class.cast(msg).getItems()) {
+                total += (long) item.getName().length()
+                    + Meter.attrs(item.getAttributes());
+            }
+        } else if (msg instanceof PutAttributesRequest) {
+            total = Meter.puts(
+                PutAttributesRequest.class.cast(msg).getAttributes()
+            );
+        } else if (msg instanceof BatchPutAttributesRequest) {
+            for (final ReplaceableItem item
+                : BatchPutAttributesRequest.class.cast(msg).getItems()) {
+                total += (long) item.getName().length()
+                    + Meter.puts(item.getAttributes());
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Count bytes of attributes.
+     * @param attrs Attributes
+     * @return Bytes of their names and values
+     */
+    private static long attrs(final Collection<Attribute> attrs) {
+        long total = 0L;
+        for (final Attribute attr : attrs) {
+            total += (long) (attr.getName().length()
+                + attr.getValue().length());
+        }
+        return total;
+    }
+
+    /**
+     * Count bytes of attributes to put.
+     * @param attrs Attributes
+     * @return Bytes of their names and values
+     */
+    private static long puts(final Collection<ReplaceableAttribute> attrs) {
+        long total = 0L;
+        for (final ReplaceableAttribute attr : attrs) {
+            total += (long) (attr.getName().length()
+                + attr.getValue().length());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+/**
+ * Registry of metrics of calls to SimpleDB.
+ *
+ * <p>Calls are reported by {@link Credentials.Metered}, by the name
+ * of SimpleDB action, like "GetAttributes" or "Select", and by the name
+ * of the domain. Implement it to forward metrics to your own registry,
+ * or use {@link JmxMetrics}, for example:
+ *
+ * <pre> Region region = new Region.Simple(
+ *   new Credentials.Metered(
+ *     new Credentials.Simple(key, secret), new JmxMetrics()
+ *   )
+ * );</pre>
+ *
+ * <p>Implementations must be thread-safe and fast, since they are
+ * called in the threads making calls.
+ *
+ * @since 1.0
+ */
+public interface Metrics {
+
+    /**
+     * Counter of failed calls.
+     */
+    String ERRORS = "errors";
+
+    /**
+     * Counter of calls rejected by SimpleDB, because it is throttling.
+     */
+    String THROTTLED = "throttled";
+
+    /**
+     * Counter of calls retried by {@link Credentials.Throttled}, one per
+     * retry.
+     */
+    String RETRIES = "retries";
+
+    /**
+     * Counter of items returned by selects.
+     */
+    String ITEMS = "items";
+
+    /**
+     * Counter of bytes of names and values, sent and received.
+     */
+    String BYTES = "bytes";
+
+    /**
+     * Counter of machine hours used by SimpleDB, as it reports them.
+     */
+    String BOX_USAGE = "box-usage";
+
+    /**
+     * Record time of a call, successful or not.
+     * @param action Name of SimpleDB action
+     * @param domain Name of the domain, empty if unknown
+     * @param nanos How long it took, in nanoseconds
+     */
+    void time(String action, String domain, long nanos);
+
+    /**
+     * Add to a counter.
+     * @param action Name of SimpleDB action
+     * @param domain Name of the domain, empty if unknown
+     * @param counter Name of the counter, like {@link #ERRORS}
+     * @param amount How much to add
+     */
+    void count(String action, String domain, String counter, double amount);
+}
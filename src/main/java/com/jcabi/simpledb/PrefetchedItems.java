@@ -0,0 +1,224 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+
+/**
+ * Items fetched in background, ahead of their consumer.
+ *
+ * <p>After {@link #start()}, items are taken from the origin, page
+ * after page, in a thread of the executor, until the given number of
+ * items is waiting for the consumer. Then fetching pauses and the thread
+ * is released, until the consumer takes an item. That's why an iterator
+ * abandoned in the middle keeps nothing but the items already fetched.
+ * Call {@link #close()} in order to drop them and stop fetching new ones;
+ * a page which is being fetched at the moment is fetched to the end and
+ * dropped.
+ *
+ * <p>A failure of the origin is thrown to the consumer after all items
+ * fetched before it.
+ *
+ * @since 1.0
+ */
+final class PrefetchedItems implements Iterator<Item>, Closeable {
+
+    /**
+     * Items, to fetch one by one.
+     */
+    private final transient Iterable<Item> origin;
+
+    /**
+     * Maximum number of items waiting for the consumer.
+     */
+    private final transient int depth;
+
+    /**
+     * Executor to fetch on.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Items fetched, in order.
+     */
+    private final transient Deque<Item> items;
+
+    /**
+     * Iterator of the origin, or NULL if it's not started yet.
+     */
+    private transient Iterator<Item> source;
+
+    /**
+     * Failure of the origin, or NULL.
+     */
+    private transient RuntimeException failure;
+
+    /**
+     * Is it fetching at the moment?
+     */
+    private transient boolean running;
+
+    /**
+     * Are all items fetched?
+     */
+    private transient boolean done;
+
+    /**
+     * Is it closed?
+     */
+    private transient boolean closed;
+
+    /**
+     * Public ctor.
+     * @param itms Items, to fetch one by one
+     * @param max Maximum number of items waiting for the consumer
+     * @param exec Executor to fetch on
+     */
+    PrefetchedItems(final Iterable<Item> itms, final int max,
+        final Executor exec) {
+        this.origin = itms;
+        this.depth = max;
+        this.executor = exec;
+        this.items = new LinkedList<>();
+    }
+
+    /**
+     * Start fetching.
+     * @return This
+     */
+    PrefetchedItems start() {
+        synchronized (this.items) {
+            this.resume();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        synchronized (this.items) {
+            this.resume();
+            while (this.items.isEmpty() && !this.done && !this.closed) {
+                try {
+                    this.items.wait();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+            }
+            if (this.items.isEmpty() && this.failure != null) {
+                throw this.failure;
+            }
+            return !this.items.isEmpty();
+        }
+    }
+
+    @Override
+    public Item next() {
+        synchronized (this.items) {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Item item = this.items.removeFirst();
+            this.resume();
+            return item;
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this.items) {
+            this.closed = true;
+            this.items.clear();
+            this.items.notifyAll();
+            if (!this.running) {
+                this.release();
+            }
+        }
+    }
+
+    /**
+     * Resume fetching, if it's paused and there is room.
+     *
+     * <p>The method must be called while holding the lock on items.
+     */
+    private void resume() {
+        if (!this.running && !this.done && !this.closed
+            && this.items.size() < this.depth) {
+            this.running = true;
+            this.executor.execute(this::fetch);
+        }
+    }
+
+    /**
+     * Fetch items until there is no room, in a thread of the executor.
+     */
+    private void fetch() {
+        boolean more = true;
+        while (more) {
+            synchronized (this.items) {
+                if (this.closed || this.items.size() >= this.depth) {
+                    this.running = false;
+                    if (this.closed) {
+                        this.release();
+                    }
+                    break;
+                }
+            }
+            Item item = null;
+            RuntimeException error = null;
+            try {
+                if (this.source == null) {
+                    this.source = this.origin.iterator();
+                }
+                if (this.source.hasNext()) {
+                    item = this.source.next();
+                }
+            } catch (final RuntimeException ex) {
+                error = ex;
+            }
+            synchronized (this.items) {
+                if (item == null) {
+                    this.failure = error;
+                    this.done = true;
+                    this.running = false;
+                    more = false;
+                } else if (!this.closed) {
+                    this.items.addLast(item);
+                }
+                this.items.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Close the iterator of the origin, if it can be closed.
+     *
+     * <p>The method must be called while holding the lock on items,
+     * when nothing is being fetched.
+     */
+    private void release() {
+        if (this.source instanceof Closeable) {
+            try {
+                Closeable.class.cast(this.source).close();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        this.source = null;
+        this.done = true;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.SelectResult;
+import com.jcabi.log.VerboseThreads;
+import java.io.Closeable;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pages fetched in background, ahead of their consumer.
+ *
+ * <p>As soon as a page arrives, the next one is requested, until
+ * the given number of pages is waiting for the consumer. Then fetching
+ * pauses, until the consumer takes a page. No thread is blocked while
+ * fetching is paused, that's why an iterator abandoned in the middle
+ * keeps nothing but the pages already fetched. Call {@link #close()}
+ * in order to drop them and stop fetching new ones; a page which is
+ * being fetched at the moment is fetched to the end and dropped.
+ *
+ * @since 1.0
+ */
+final class PrefetchedPages implements Iterator<SelectResult>, Closeable {
+
+    /**
+     * Threads fetching pages, shared by all iterators.
+     */
+    private static final ExecutorService THREADS =
+        Executors.newCachedThreadPool(new VerboseThreads("simpledb-prefetch"));
+
+    /**
+     * Pages, to fetch one by one.
+     */
+    private final transient Iterator<SelectResult> origin;
+
+    /**
+     * Maximum number of pages waiting for the consumer.
+     */
+    private final transient int depth;
+
+    /**
+     * Pages fetched or being fetched, in order.
+     */
+    private final transient Deque<CompletableFuture<SelectResult>> pages;
+
+    /**
+     * The most recent page requested, or NULL.
+     */
+    private transient CompletableFuture<SelectResult> last;
+
+    /**
+     * Is it closed?
+     */
+    private transient boolean closed;
+
+    /**
+     * Public ctor.
+     * @param pgs Pages, to fetch one by one
+     * @param max Maximum number of pages waiting for the consumer
+     */
+    PrefetchedPages(final Iterator<SelectResult> pgs, final int max) {
+        this.origin = pgs;
+        this.depth = max;
+        this.pages = new LinkedList<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        synchronized (this.pages) {
+            this.extend();
+            return !this.pages.isEmpty();
+        }
+    }
+
+    @Override
+    public SelectResult next() {
+        final CompletableFuture<SelectResult> head;
+        synchronized (this.pages) {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            head = this.pages.removeFirst();
+        }
+        final SelectResult page;
+        try {
+            page = head.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+        synchronized (this.pages) {
+            this.extend();
+        }
+        return page;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this.pages) {
+            this.closed = true;
+            for (final CompletableFuture<SelectResult> page : this.pages) {
+                page.cancel(false);
+            }
+            this.pages.clear();
+        }
+    }
+
+    /**
+     * Request the next page, if it's time.
+     *
+     * <p>The method must be called while holding the lock on pages.
+     */
+    private void extend() {
+        final boolean ready = this.last == null
+            || this.last.isDone() && !this.last.isCompletedExceptionally();
+        if (ready && !this.closed && this.pages.size() < this.depth
+            && this.origin.hasNext()) {
+            final CompletableFuture<SelectResult> future =
+                CompletableFuture.supplyAsync(
+                    this.origin::next, PrefetchedPages.THREADS
+                );
+            this.last = future;
+            this.pages.addLast(future);
+            future.thenRun(
+                () -> {
+                    synchronized (this.pages) {
+                        this.extend();
+                    }
+                }
+            );
+        }
+    }
+}
@@ -0,0 +1,860 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.jcabi.aspects.Immutable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import javax.validation.constraints.NotNull;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Select query, which makes select requests to SimpleDB.
+ *
+ * <p>The query is built once, quoting all names and values, and then
+ * makes requests, for example:
+ *
+ * <pre> Query query = new Query(domain.name())
+ *   .attributes("name", "age")
+ *   .where(
+ *     Query.Filter.gt("age", new Query.Param("min"))
+ *       .and(Query.Filter.eq("status", "active"))
+ *   )
+ *   .orderBy("age")
+ *   .limit(10);
+ * for (Item item : domain.select(query.request(params))) {
+ *   // ...
+ * }</pre>
+ *
+ * <p>The expression is compiled into fragments of text, between
+ * {@link Query.Param}s. A request only puts the values of parameters,
+ * quoted, between the fragments, that's why the query may be kept and
+ * used again and again, by many threads. Parts of the query may be
+ * set in any order, that's why the query as a whole is validated only
+ * when a request is made: {@link #request(Map)} throws
+ * {@link IllegalStateException} if SimpleDB would reject the expression,
+ * for example if it is sorted by an attribute which is not in the filter.
+ * Invalid arguments of a single method, like an empty list of attributes
+ * or a wrong limit, are rejected right away, with
+ * {@link IllegalArgumentException}.
+ *
+ * @since 1.0
+ */
+@Immutable
+@EqualsAndHashCode(of = { "texts", "params" })
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Query {
+
+    /**
+     * Name of the item, to filter, to sort by and to select.
+     */
+    public static final String ITEM_NAME = "itemName()";
+
+    /**
+     * Maximum number of items in a page.
+     */
+    private static final int MAX = 2500;
+
+    /**
+     * Condition on every value of an attribute.
+     */
+    private static final Pattern EVERY = Pattern.compile("every\\(`.+`\\)");
+
+    /**
+     * Domain name.
+     */
+    private final transient String table;
+
+    /**
+     * Output, quoted.
+     */
+    private final transient String output;
+
+    /**
+     * Filter or NULL.
+     */
+    private final transient Query.Filter filter;
+
+    /**
+     * Attribute to sort by, or NULL.
+     */
+    private final transient String sort;
+
+    /**
+     * Sort in descending order?
+     */
+    private final transient boolean descending;
+
+    /**
+     * Maximum number of items in a page, or zero if not set.
+     */
+    private final transient int max;
+
+    /**
+     * Fragments of the expression, one more than parameters.
+     */
+    @Immutable.Array
+    private final transient String[] texts;
+
+    /**
+     * Names of parameters, between the fragments.
+     */
+    @Immutable.Array
+    private final transient String[] params;
+
+    /**
+     * Why SimpleDB would reject the expression, or NULL if it wouldn't.
+     */
+    private final transient String error;
+
+    /**
+     * Public ctor, of a query selecting all attributes of all items.
+     * @param domain Domain name
+     */
+    public Query(@NotNull(message = "domain name can't be NULL")
+        final String domain) {
+        this(domain, "*", null, null, false, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param domain Domain name
+     * @param out Output, quoted
+     * @param flt Filter or NULL
+     * @param attr Attribute to sort by, or NULL
+     * @param desc Sort in descending order?
+     * @param limit Maximum number of items in a page, or zero if not set
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Query(final String domain, final String out,
+        final Query.Filter flt, final String attr, final boolean desc,
+        final int limit) {
+        this.table = domain;
+        this.output = out;
+        this.filter = flt;
+        this.sort = attr;
+        this.descending = desc;
+        this.max = limit;
+        final Collection<Object> parts = new ArrayList<>(0);
+        parts.add(String.format("select %s from %s", out, Query.name(domain)));
+        if (flt != null) {
+            parts.add(" where ");
+            parts.add(flt);
+        }
+        if (attr != null) {
+            parts.add(String.format(" order by %s", Query.subject(attr)));
+            if (desc) {
+                parts.add(" desc");
+            }
+        }
+        if (limit > 0) {
+            parts.add(String.format(" limit %d", limit));
+        }
+        final List<String> txts = new ArrayList<>(1);
+        final List<String> prms = new ArrayList<>(0);
+        Query.compile(txts, prms, parts.toArray());
+        this.texts = txts.toArray(new String[0]);
+        this.params = prms.toArray(new String[0]);
+        this.error = Query.validate(flt, attr);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder(this.texts[0]);
+        for (int idx = 0; idx < this.params.length; ++idx) {
+            text.append(':').append(this.params[idx])
+                .append(this.texts[idx + 1]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Select these attributes only.
+     * @param names Names of attributes, at least one
+     * @return New query
+     */
+    public Query attributes(@NotNull(message = "names can't be NULL")
+        final String... names) {
+        if (names.length == 0) {
+            throw new IllegalArgumentException(
+                "at least one attribute must be selected"
+            );
+        }
+        final StringBuilder out = new StringBuilder(0);
+        for (final String name : names) {
+            if (out.length() > 0) {
+                out.append(", ");
+            }
+            out.append(Query.name(name));
+        }
+        return new Query(
+            this.table, out.toString(), this.filter, this.sort,
+            this.descending, this.max
+        );
+    }
+
+    /**
+     * Select names of items only.
+     * @return New query
+     */
+    public Query names() {
+        return new Query(
+            this.table, Query.ITEM_NAME, this.filter, this.sort,
+            this.descending, this.max
+        );
+    }
+
+    /**
+     * Select the number of items only.
+     * @return New query
+     */
+    public Query count() {
+        return new Query(
+            this.table, "count(*)", this.filter, this.sort,
+            this.descending, this.max
+        );
+    }
+
+    /**
+     * Select only items which match the filter.
+     * @param flt Filter
+     * @return New query
+     */
+    public Query where(@NotNull(message = "filter can't be NULL")
+        final Query.Filter flt) {
+        return new Query(
+            this.table, this.output, flt, this.sort, this.descending, this.max
+        );
+    }
+
+    /**
+     * Sort items by the attribute, in ascending order.
+     * @param attr Name of the attribute or {@link #ITEM_NAME}
+     * @return New query
+     */
+    public Query orderBy(@NotNull(message = "attribute can't be NULL")
+        final String attr) {
+        return new Query(
+            this.table, this.output, this.filter, attr, false, this.max
+        );
+    }
+
+    /**
+     * Sort items by the attribute, in descending order.
+     * @param attr Name of the attribute or {@link #ITEM_NAME}
+     * @return New query
+     */
+    public Query orderByDescending(
+        @NotNull(message = "attribute can't be NULL") final String attr) {
+        return new Query(
+            this.table, this.output, this.filter, attr, true, this.max
+        );
+    }
+
+    /**
+     * Select not more than this number of items in a page.
+     * @param limit Number of items, from 1 to 2500
+     * @return New query
+     */
+    public Query limit(final int limit) {
+        if (limit < 1 || limit > Query.MAX) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "limit %d must be between 1 and %d", limit, Query.MAX
+                )
+            );
+        }
+        return new Query(
+            this.table, this.output, this.filter, this.sort,
+            this.descending, limit
+        );
+    }
+
+    /**
+     * Make a select request, if the query has no parameters.
+     * @return Request
+     */
+    @NotNull(message = "request is never NULL")
+    public SelectRequest request() {
+        return this.request(Collections.emptyMap());
+    }
+
+    /**
+     * Make a select request.
+     * @param values Values of parameters, by names
+     * @return Request
+     */
+    @NotNull(message = "request is never NULL")
+    public SelectRequest request(
+        @NotNull(message = "values can't be NULL")
+        final Map<String, String> values) {
+        if (this.error != null) {
+            throw new IllegalStateException(
+                String.format("%s: %s", this.error, this)
+            );
+        }
+        final StringBuilder expr = new StringBuilder(
+            this.texts[0].length() * 2
+        );
+        expr.append(this.texts[0]);
+        for (int idx = 0; idx < this.params.length; ++idx) {
+            final String value = values.get(this.params[idx]);
+            if (value == null) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "value of parameter '%s' is not provided",
+                        this.params[idx]
+                    )
+                );
+            }
+            Query.quote(expr, '\'', value).append(this.texts[idx + 1]);
+        }
+        return new SelectRequest(expr.toString());
+    }
+
+    /**
+     * Make a condition on every value of an attribute, for the factory
+     * methods of {@link Query.Filter}.
+     * @param attr Name of the attribute
+     * @return Name to use in a filter
+     */
+    public static String every(final String attr) {
+        return String.format("every(%s)", Query.name(attr));
+    }
+
+    /**
+     * Quote a name of an attribute, unless it's an item name
+     * or {@link #every(String)}.
+     * @param attr Name of the attribute
+     * @return Text of the expression
+     */
+    private static String subject(final String attr) {
+        final String text;
+        if (Query.ITEM_NAME.equals(attr)
+            || Query.EVERY.matcher(attr).matches()) {
+            text = attr;
+        } else {
+            text = Query.name(attr);
+        }
+        return text;
+    }
+
+    /**
+     * Quote a name.
+     * @param name Name
+     * @return Text of the expression
+     */
+    private static String name(final String name) {
+        return Query.quote(
+            new StringBuilder(name.length() + 2), '`', name
+        ).toString();
+    }
+
+    /**
+     * Quote a value.
+     * @param value Value
+     * @return Text of the expression
+     */
+    private static String literal(final String value) {
+        return Query.quote(
+            new StringBuilder(value.length() + 2), '\'', value
+        ).toString();
+    }
+
+    /**
+     * Quote a text, doubling the quotes inside it.
+     * @param expr Where to append the text
+     * @param quote Quote
+     * @param text Text to quote
+     * @return The same builder
+     */
+    private static StringBuilder quote(final StringBuilder expr,
+        final char quote, final String text) {
+        expr.append(quote);
+        for (int idx = 0; idx < text.length(); ++idx) {
+            final char chr = text.charAt(idx);
+            if (chr == quote) {
+                expr.append(quote);
+            }
+            expr.append(chr);
+        }
+        return expr.append(quote);
+    }
+
+    /**
+     * Find why SimpleDB would reject the query.
+     * @param flt Filter or NULL
+     * @param attr Attribute to sort by, or NULL
+     * @return The reason or NULL if there is none
+     */
+    private static String validate(final Query.Filter flt,
+        final String attr) {
+        String error = null;
+        if (attr != null && !Query.ITEM_NAME.equals(attr)
+            && (flt == null || !Arrays.asList(flt.attrs).contains(attr))) {
+            error = String.format(
+                "attribute '%s' to sort by must be in the filter", attr
+            );
+        }
+        return error;
+    }
+
+    /**
+     * Compile parts of an expression into fragments of text
+     * and parameters.
+     * @param texts Fragments of text, to add to
+     * @param params Names of parameters, to add to
+     * @param parts Texts, parameters and filters
+     */
+    private static void compile(final List<String> texts,
+        final List<String> params, final Object... parts) {
+        if (texts.isEmpty()) {
+            texts.add("");
+        }
+        for (final Object part : parts) {
+            if (part instanceof Query.Param) {
+                params.add(Query.Param.class.cast(part).label);
+                texts.add("");
+            } else if (part instanceof Query.Filter) {
+                final Query.Filter flt = Query.Filter.class.cast(part);
+                final int last = texts.size() - 1;
+                texts.set(last, texts.get(last) + flt.texts[0]);
+                for (int idx = 0; idx < flt.params.length; ++idx) {
+                    params.add(flt.params[idx]);
+                    texts.add(flt.texts[idx + 1]);
+                }
+            } else {
+                final int last = texts.size() - 1;
+                texts.set(last, texts.get(last) + part);
+            }
+        }
+    }
+
+    /**
+     * Parameter of a query, which gets its value in
+     * {@link Query#request(Map)}.
+     *
+     * @since 1.0
+     */
+    @Immutable
+    @EqualsAndHashCode(of = "label")
+    public static final class Param {
+
+        /**
+         * Name of it.
+         */
+        private final transient String label;
+
+        /**
+         * Public ctor.
+         * @param name Name of the parameter
+         */
+        public Param(@NotNull(message = "name can't be NULL")
+            final String name) {
+            this.label = name;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(":%s", this.label);
+        }
+    }
+
+    /**
+     * Filter of items, for {@link Query#where(Query.Filter)}.
+     *
+     * <p>Names of attributes in the factory methods may also be
+     * {@link Query#ITEM_NAME} or {@link Query#every(String)}. Values
+     * may be texts or {@link Query.Param}s. All of them are compared
+     * as strings, lexicographically, the way SimpleDB does it.
+     *
+     * @since 1.0
+     */
+    @Immutable
+    @EqualsAndHashCode(of = { "texts", "params" })
+    @SuppressWarnings("PMD.TooManyMethods")
+    public static final class Filter {
+
+        /**
+         * Fragments of the expression, one more than parameters.
+         */
+        @Immutable.Array
+        private final transient String[] texts;
+
+        /**
+         * Names of parameters, between the fragments.
+         */
+        @Immutable.Array
+        private final transient String[] params;
+
+        /**
+         * Names of attributes in the filter.
+         */
+        @Immutable.Array
+        private final transient String[] attrs;
+
+        /**
+         * Ctor.
+         * @param names Names of attributes in the filter
+         * @param parts Texts, parameters and filters
+         */
+        private Filter(final Collection<String> names, final Object... parts) {
+            final List<String> txts = new ArrayList<>(1);
+            final List<String> prms = new ArrayList<>(0);
+            Query.compile(txts, prms, parts);
+            this.texts = txts.toArray(new String[0]);
+            this.params = prms.toArray(new String[0]);
+            this.attrs = names.toArray(new String[0]);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder text = new StringBuilder(this.texts[0]);
+            for (int idx = 0; idx < this.params.length; ++idx) {
+                text.append(':').append(this.params[idx])
+                    .append(this.texts[idx + 1]);
+            }
+            return text.toString();
+        }
+
+        /**
+         * Both filters must match.
+         * @param other Another filter
+         * @return New filter
+         */
+        public Query.Filter and(@NotNull(message = "filter can't be NULL")
+            final Query.Filter other) {
+            return this.join(" and ", other);
+        }
+
+        /**
+         * One of the filters must match.
+         * @param other Another filter
+         * @return New filter
+         */
+        public Query.Filter or(@NotNull(message = "filter can't be NULL")
+            final Query.Filter other) {
+            return this.join(" or ", other);
+        }
+
+        /**
+         * Both filters must match, each one with its own value
+         * of a multi-valued attribute.
+         * @param other Another filter
+         * @return New filter
+         */
+        public Query.Filter intersection(
+            @NotNull(message = "filter can't be NULL")
+            final Query.Filter other) {
+            return this.join(" intersection ", other);
+        }
+
+        /**
+         * The filter must not match.
+         * @return New filter
+         */
+        public Query.Filter not() {
+            return new Query.Filter(
+                Arrays.asList(this.attrs), "not (", this, ")"
+            );
+        }
+
+        /**
+         * Attribute is equal to the value.
+         * @param attr Name of the attribute
+         * @param value Value
+         * @return Filter
+         */
+        public static Query.Filter eq(final String attr, final String value) {
+            return Query.Filter.compare(attr, "=", value);
+        }
+
+        /**
+         * Attribute is equal to the parameter.
+         * @param attr Name of the attribute
+         * @param param Parameter
+         * @return Filter
+         */
+        public static Query.Filter eq(final String attr,
+            final Query.Param param) {
+            return Query.Filter.compare(attr, "=", param);
+        }
+
+        /**
+         * Attribute is not equal to the value.
+         * @param attr Name of the attribute
+         * @param value Value
+         * @return Filter
+         */
+        public static Query.Filter ne(final String attr, final String value) {
+            return Query.Filter.compare(attr, "!=", value);
+        }
+
+        /**
+         * Attribute is not equal to the parameter.
+         * @param attr Name of the attribute
+         * @param param Parameter
+         * @return Filter
+         */
+        public static Query.Filter ne(final String attr,
+            final Query.Param param) {
+            return Query.Filter.compare(attr, "!=", param);
+        }
+
+        /**
+         * Attribute is less than the value.
+         * @param attr Name of the attribute
+         * @param value Value
+         * @return Filter
+         */
+        public static Query.Filter lt(final String attr, final String value) {
+            return Query.Filter.compare(attr, "<", value);
+        }
+
+        /**
+         * Attribute is less than the parameter.
+         * @param attr Name of the attribute
+         * @param param Parameter
+         * @return Filter
+         */
+        public static Query.Filter lt(final String attr,
+            final Query.Param param) {
+            return Query.Filter.compare(attr, "<", param);
+        }
+
+        /**
+         * Attribute is less than or equal to the value.
+         * @param attr Name of the attribute
+         * @param value Value
+         * @return Filter
+         */
+        public static Query.Filter le(final String attr, final String value) {
+            return Query.Filter.compare(attr, "<=", value);
+        }
+
+        /**
+         * Attribute is less than or equal to the parameter.
+         * @param attr Name of the attribute
+         * @param param Parameter
+         * @return Filter
+         */
+        public static Query.Filter le(final String attr,
+            final Query.Param param) {
+            return Query.Filter.compare(attr, "<=", param);
+        }
+
+        /**
+         * Attribute is greater than the value.
+         * @param attr Name of the attribute
+         * @param value Value
+         * @return Filter
+         */
+        public static Query.Filter gt(final String attr, final String value) {
+            return Query.Filter.compare(attr, ">", value);
+        }
+
+        /**
+         * Attribute is greater than the parameter.
+         * @param attr Name of the attribute
+         * @param param Parameter
+         * @return Filter
+         */
+        public static Query.Filter gt(final String attr,
+            final Query.Param param) {
+            return Query.Filter.compare(attr, ">", param);
+        }
+
+        /**
+         * Attribute is greater than or equal to the value.
+         * @param attr Name of the attribute
+         * @param value Value
+         * @return Filter
+         */
+        public static Query.Filter ge(final String attr, final String value) {
+            return Query.Filter.compare(attr, ">=", value);
+        }
+
+        /**
+         * Attribute is greater than or equal to the parameter.
+         * @param attr Name of the attribute
+         * @param param Parameter
+         * @return Filter
+         */
+        public static Query.Filter ge(final String attr,
+            final Query.Param param) {
+            return Query.Filter.compare(attr, ">=", param);
+        }
+
+        /**
+         * Attribute matches the pattern, with {@code %} as a wildcard.
+         * @param attr Name of the attribute
+         * @param pattern Pattern
+         * @return Filter
+         */
+        public static Query.Filter like(final String attr,
+            final String pattern) {
+            return Query.Filter.compare(attr, "like", pattern);
+        }
+
+        /**
+         * Attribute matches the pattern in the parameter.
+         * @param attr Name of the attribute
+         * @param param Parameter
+         * @return Filter
+         */
+        public static Query.Filter like(final String attr,
+            final Query.Param param) {
+            return Query.Filter.compare(attr, "like", param);
+        }
+
+        /**
+         * Attribute doesn't match the pattern, with {@code %}
+         * as a wildcard.
+         * @param attr Name of the attribute
+         * @param pattern Pattern
+         * @return Filter
+         */
+        public static Query.Filter notLike(final String attr,
+            final String pattern) {
+            return Query.Filter.compare(attr, "not like", pattern);
+        }
+
+        /**
+         * Attribute is between the values, inclusive.
+         * @param attr Name of the attribute
+         * @param low The lowest value
+         * @param high The highest value
+         * @return Filter
+         */
+        public static Query.Filter between(final String attr,
+            final String low, final String high) {
+            return new Query.Filter(
+                Collections.singleton(attr),
+                String.format(
+                    "%s between %s and %s",
+                    Query.subject(attr), Query.literal(low),
+                    Query.literal(high)
+                )
+            );
+        }
+
+        /**
+         * Attribute is between the parameters, inclusive.
+         * @param attr Name of the attribute
+         * @param low Parameter with the lowest value
+         * @param high Parameter with the highest value
+         * @return Filter
+         */
+        public static Query.Filter between(final String attr,
+            final Query.Param low, final Query.Param high) {
+            return new Query.Filter(
+                Collections.singleton(attr),
+                String.format("%s between ", Query.subject(attr)),
+                low, " and ", high
+            );
+        }
+
+        /**
+         * Attribute is one of the values.
+         * @param attr Name of the attribute
+         * @param values Values
+         * @return Filter
+         */
+        public static Query.Filter in(final String attr,
+            final String... values) {
+            final StringBuilder text = new StringBuilder(0)
+                .append(Query.subject(attr)).append(" in (");
+            for (int idx = 0; idx < values.length; ++idx) {
+                if (idx > 0) {
+                    text.append(", ");
+                }
+                Query.quote(text, '\'', values[idx]);
+            }
+            return new Query.Filter(
+                Collections.singleton(attr), text.append(')').toString()
+            );
+        }
+
+        /**
+         * Attribute is absent.
+         * @param attr Name of the attribute
+         * @return Filter
+         */
+        public static Query.Filter isNull(final String attr) {
+            return new Query.Filter(
+                Collections.singleton(attr),
+                String.format("%s is null", Query.subject(attr))
+            );
+        }
+
+        /**
+         * Attribute is present.
+         * @param attr Name of the attribute
+         * @return Filter
+         */
+        public static Query.Filter isNotNull(final String attr) {
+            return new Query.Filter(
+                Collections.singleton(attr),
+                String.format("%s is not null", Query.subject(attr))
+            );
+        }
+
+        /**
+         * Join two filters.
+         * @param operator Operator between them
+         * @param other Another filter
+         * @return New filter
+         */
+        private Query.Filter join(final String operator,
+            final Query.Filter other) {
+            final Collection<String> names = new ArrayList<>(
+                this.attrs.length + other.attrs.length
+            );
+            names.addAll(Arrays.asList(this.attrs));
+            names.addAll(Arrays.asList(other.attrs));
+            return new Query.Filter(names, "(", this, operator, other, ")");
+        }
+
+        /**
+         * Compare an attribute with a value.
+         * @param attr Name of the attribute
+         * @param operator Operator
+         * @param value Value
+         * @return Filter
+         */
+        private static Query.Filter compare(final String attr,
+            final String operator, final String value) {
+            return new Query.Filter(
+                Collections.singleton(attr),
+                String.format(
+                    "%s %s %s", Query.subject(attr), operator,
+                    Query.literal(value)
+                )
+            );
+        }
+
+        /**
+         * Compare an attribute with a parameter.
+         * @param attr Name of the attribute
+         * @param operator Operator
+         * @param param Parameter
+         * @return Filter
+         */
+        private static Query.Filter compare(final String attr,
+            final String operator, final Query.Param param) {
+            return new Query.Filter(
+                Collections.singleton(attr),
+                String.format("%s %s ", Query.subject(attr), operator),
+                param
+            );
+        }
+    }
+}
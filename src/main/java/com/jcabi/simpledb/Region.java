@@ -5,8 +5,8 @@
 package com.jcabi.simpledb;
 
 import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.model.SelectRequest;
 import com.jcabi.aspects.Immutable;
-import com.jcabi.aspects.Loggable;
 import javax.validation.constraints.NotNull;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -17,7 +17,11 @@ import lombok.ToString;
  * <p>It is recommended to use {@link Region.Simple} in most cases.
  *
  * <p>You can use {@link #aws()} method to get access to Amazon SimpleDB
- * client directly.
+ * client directly. The client may be shared with other users of the same
+ * credentials, don't shut it down.
+ *
+ * <p>Use {@link Region.InMemory} in unit tests and in local
+ * development, where there is no SimpleDB to talk to.
  *
  * @since 0.1
  */
@@ -41,12 +45,22 @@ public interface Region {
 
     /**
      * Simple region, basic implementation.
+     *
+     * <p>By default, {@link Domain#select(SelectRequest)} fetches the next
+     * page of results only when the previous one is consumed. Specify
+     * the depth of prefetching in the constructor, in order to fetch
+     * pages in background, as soon as the previous ones arrive. Not more
+     * than this number of pages will wait in memory for the consumer.
+     *
+     * <p>Items and selects of its domains read consistently, unless
+     * another {@link Consistency} is specified in the constructor. A select
+     * request with {@code ConsistentRead} set explicitly is not affected.
+     *
      * @since 0.1
      */
     @Immutable
-    @Loggable(Loggable.DEBUG)
     @ToString
-    @EqualsAndHashCode(of = "credentials")
+    @EqualsAndHashCode(of = { "credentials", "consistency", "depth" })
     final class Simple implements Region {
 
         /**
@@ -54,13 +68,114 @@ public interface Region {
          */
         private final transient Credentials credentials;
 
+        /**
+         * How items and selects read, unless requested otherwise.
+         */
+        private final transient Consistency consistency;
+
+        /**
+         * How many pages of select results to fetch ahead.
+         */
+        private final transient int depth;
+
         /**
          * Public ctor.
          * @param creds Credentials
          */
         public Simple(@NotNull(message = "credentials can't be NULL")
             final Credentials creds) {
+            this(creds, Consistency.STRONG);
+        }
+
+        /**
+         * Public ctor.
+         * @param creds Credentials
+         * @param pages How many pages to fetch ahead, zero to disable
+         */
+        public Simple(@NotNull(message = "credentials can't be NULL")
+            final Credentials creds, final int pages) {
+            this(creds, Consistency.STRONG, pages);
+        }
+
+        /**
+         * Public ctor.
+         * @param creds Credentials
+         * @param reads How items and selects read
+         */
+        public Simple(@NotNull(message = "credentials can't be NULL")
+            final Credentials creds,
+            @NotNull(message = "consistency can't be NULL")
+            final Consistency reads) {
+            this(creds, reads, 0);
+        }
+
+        /**
+         * Public ctor.
+         * @param creds Credentials
+         * @param reads How items and selects read
+         * @param pages How many pages to fetch ahead, zero to disable
+         */
+        public Simple(@NotNull(message = "credentials can't be NULL")
+            final Credentials creds,
+            @NotNull(message = "consistency can't be NULL")
+            final Consistency reads, final int pages) {
             this.credentials = creds;
+            this.consistency = reads;
+            this.depth = pages;
+        }
+
+        @Override
+        @NotNull(message = "AWS client is never NULL")
+        public AmazonSimpleDB aws() {
+            return this.credentials.aws();
+        }
+
+        @Override
+        @NotNull(message = "domain is never NULL")
+        public Domain domain(@NotNull final String name) {
+            return new AwsDomain(
+                this.credentials, name, this.consistency, this.depth
+            );
+        }
+    }
+
+    /**
+     * Region in memory, without SimpleDB.
+     *
+     * <p>It keeps all domains and their items in memory, in concurrent
+     * data structures, and understands items with multi-valued
+     * attributes, conditional writes, batch writes and the select
+     * dialect of SimpleDB, including {@code where}, {@code order by},
+     * {@code limit} and {@code count(*)}. All reads are consistent.
+     * Domains must be created before they are used, as in SimpleDB:
+     *
+     * <pre> Region region = new Region.InMemory();
+     * region.aws().createDomain(new CreateDomainRequest("users"));
+     * region.domain("users").item("jeff").put("age", "42");</pre>
+     *
+     * <p>The class is thread-safe. Every instance has its own domains,
+     * they are lost when the instance is gone.
+     *
+     * @since 1.0
+     */
+    final class InMemory implements Region {
+
+        /**
+         * Credentials, which give the client in memory.
+         */
+        private final transient Credentials credentials;
+
+        /**
+         * Public ctor.
+         */
+        public InMemory() {
+            final AmazonSimpleDB client = new MemorySimpleDB();
+            this.credentials = () -> client;
+        }
+
+        @Override
+        public String toString() {
+            return this.credentials.aws().toString();
         }
 
         @Override
@@ -0,0 +1,335 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.jcabi.log.VerboseThreads;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.validation.constraints.NotNull;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Scan of a domain, split into segments by item names.
+ *
+ * <p>SimpleDB pages of one select are chained by their tokens, and
+ * can only be fetched one after another. This class splits the range
+ * of item names into segments by the boundaries provided, and selects
+ * every segment separately. The stream returned by {@link #stream()}
+ * starts selects of all segments at once, in threads of its own, and
+ * then gives out their items, segment after segment, for example:
+ *
+ * <pre> long total = new Scan(domain, "`status` = 'active'", "4", "8", "c")
+ *   .stream()
+ *   .mapToLong(item -&gt; Long.parseLong(item.get("salary")))
+ *   .sum();</pre>
+ *
+ * <p>Every segment is fetched to the end, page after page, in a thread
+ * of its own, but not more than a thousand of its items are kept in
+ * memory until the stream reaches them; fetching of the segment pauses
+ * until then. Close the stream, if it's not consumed to the end, in order
+ * to stop fetching. Stream processing runs in the calling thread, or
+ * in the threads of the stream, if it's made parallel, but calls to
+ * SimpleDB never block threads of the common pool.
+ *
+ * <p>{@link #count()} counts items of all segments in parallel, the same
+ * way, and sums up their counts.
+ *
+ * <p>Boundaries are best chosen so that segments have similar number
+ * of items, for example by the first characters of item names.
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = { "domain", "condition", "bounds" })
+public final class Scan implements Iterable<Item> {
+
+    /**
+     * Threads selecting segments, shared by all scans.
+     */
+    private static final ExecutorService THREADS =
+        Executors.newCachedThreadPool(new VerboseThreads("simpledb-scan"));
+
+    /**
+     * Maximum number of items of a segment fetched ahead of the stream.
+     */
+    private static final int AHEAD = 1000;
+
+    /**
+     * The domain.
+     */
+    private final transient Domain domain;
+
+    /**
+     * Condition of the WHERE clause, or empty string.
+     */
+    private final transient String condition;
+
+    /**
+     * Boundaries of segments, sorted.
+     */
+    private final transient List<String> bounds;
+
+    /**
+     * Public ctor.
+     * @param dmn The domain
+     * @param cond Condition of the WHERE clause, or empty string
+     * @param names Item names to split the domain by
+     */
+    public Scan(@NotNull(message = "domain can't be NULL") final Domain dmn,
+        @NotNull(message = "condition can't be NULL") final String cond,
+        @NotNull(message = "boundaries can't be NULL") final String... names) {
+        this.domain = dmn;
+        this.condition = cond;
+        this.bounds = Scan.sorted(names);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d segments of %s", this.bounds.size() + 1, this.domain
+        );
+    }
+
+    @Override
+    public Iterator<Item> iterator() {
+        return Spliterators.iterator(this.spliterator());
+    }
+
+    @Override
+    public Spliterator<Item> spliterator() {
+        final List<SelectRequest> requests = this.requests("*");
+        return new Scan.Segments(this.domain, requests, 0, requests.size());
+    }
+
+    /**
+     * Stream all items, selecting segments in parallel.
+     * @return Stream of items, to close if not consumed to the end
+     */
+    @NotNull(message = "stream is never NULL")
+    public Stream<Item> stream() {
+        final List<SelectRequest> requests = this.requests("*");
+        final List<PrefetchedItems> segments =
+            new ArrayList<>(requests.size());
+        for (final SelectRequest request : requests) {
+            segments.add(
+                new PrefetchedItems(
+                    () -> this.domain.select(request).iterator(),
+                    Scan.AHEAD, Scan.THREADS
+                ).start()
+            );
+        }
+        return segments.stream().flatMap(
+            segment -> StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                    segment, Spliterator.NONNULL
+                ),
+                false
+            ).onClose(segment::close)
+        ).onClose(() -> segments.forEach(PrefetchedItems::close));
+    }
+
+    /**
+     * Count all items, counting segments in parallel.
+     * @return Number of items
+     */
+    public long count() {
+        final List<SelectRequest> requests = this.requests("count(*)");
+        final List<CompletableFuture<Long>> counts =
+            new ArrayList<>(requests.size());
+        for (final SelectRequest request : requests) {
+            counts.add(
+                CompletableFuture.supplyAsync(
+                    () -> this.domain.count(request), Scan.THREADS
+                )
+            );
+        }
+        long total = 0L;
+        for (final CompletableFuture<Long> count : counts) {
+            total += Scan.join(count);
+        }
+        return total;
+    }
+
+    /**
+     * Make select requests of all segments.
+     * @param output Output of the select
+     * @return Requests
+     */
+    private List<SelectRequest> requests(final String output) {
+        final List<SelectRequest> requests =
+            new ArrayList<>(this.bounds.size() + 1);
+        for (int idx = 0; idx <= this.bounds.size(); ++idx) {
+            final Collection<String> terms = new ArrayList<>(3);
+            if (!this.condition.isEmpty()) {
+                terms.add(String.format("(%s)", this.condition));
+            }
+            if (idx > 0) {
+                terms.add(
+                    String.format(
+                        "itemName() >= %s", Scan.quote(this.bounds.get(idx - 1))
+                    )
+                );
+            }
+            if (idx < this.bounds.size()) {
+                terms.add(
+                    String.format(
+                        "itemName() < %s", Scan.quote(this.bounds.get(idx))
+                    )
+                );
+            }
+            final StringBuilder query = new StringBuilder(0)
+                .append("SELECT ").append(output).append(" FROM `")
+                .append(this.domain.name().replace("`", "``"))
+                .append('`');
+            if (!terms.isEmpty()) {
+                query.append(" WHERE ").append(String.join(" AND ", terms));
+            }
+            requests.add(new SelectRequest(query.toString()));
+        }
+        return requests;
+    }
+
+    /**
+     * Quote a string for a select expression.
+     * @param text The string
+     * @return Quoted string
+     */
+    private static String quote(final String text) {
+        return String.format("'%s'", text.replace("'", "''"));
+    }
+
+    /**
+     * Wait for the future, rethrowing its failure as it is.
+     * @param future The future
+     * @param <T> Type of result
+     * @return Result
+     */
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Sort and deduplicate boundaries.
+     * @param names Boundaries
+     * @return Sorted list
+     */
+    private static List<String> sorted(final String... names) {
+        final List<String> list = new ArrayList<>(Arrays.asList(names));
+        list.sort(String::compareTo);
+        for (int idx = list.size() - 1; idx > 0; --idx) {
+            if (list.get(idx).equals(list.get(idx - 1))) {
+                list.remove(idx);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Spliterator of segments.
+     * @since 1.0
+     */
+    private static final class Segments implements Spliterator<Item> {
+
+        /**
+         * The domain.
+         */
+        private final transient Domain domain;
+
+        /**
+         * Requests of all segments.
+         */
+        private final transient List<SelectRequest> requests;
+
+        /**
+         * The segment after the last one to traverse.
+         */
+        private final transient int end;
+
+        /**
+         * The next segment to start.
+         */
+        private transient int start;
+
+        /**
+         * Items of the segment in progress, or NULL.
+         */
+        private transient Iterator<Item> current;
+
+        /**
+         * Ctor.
+         * @param dmn The domain
+         * @param reqs Requests of all segments
+         * @param first The first segment to traverse
+         * @param last The segment after the last one to traverse
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Segments(final Domain dmn, final List<SelectRequest> reqs,
+            final int first, final int last) {
+            this.domain = dmn;
+            this.requests = reqs;
+            this.start = first;
+            this.end = last;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Item> action) {
+            while ((this.current == null || !this.current.hasNext())
+                && this.start < this.end) {
+                this.current = this.domain.select(
+                    this.requests.get(this.start)
+                ).iterator();
+                ++this.start;
+            }
+            final boolean found = this.current != null
+                && this.current.hasNext();
+            if (found) {
+                action.accept(this.current.next());
+            }
+            return found;
+        }
+
+        @Override
+        public Spliterator<Item> trySplit() {
+            Spliterator<Item> prefix = null;
+            if (this.end - this.start > 1) {
+                final int middle = this.start + (this.end - this.start) / 2;
+                prefix = new Scan.Segments(
+                    this.domain, this.requests, this.start, middle
+                );
+                this.start = middle;
+            }
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.NONNULL;
+        }
+    }
+}
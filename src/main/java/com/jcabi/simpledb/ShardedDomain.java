@@ -0,0 +1,664 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.jcabi.log.VerboseThreads;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.validation.constraints.NotNull;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Logical domain, which spreads its items across a few domains
+ * in SimpleDB, its shards.
+ *
+ * <p>SimpleDB limits the size and throughput of every domain. This
+ * class hashes names of items to pick the shard of every item, so
+ * that reads and writes of different items go to different domains,
+ * for example:
+ *
+ * <pre> Domain domain = new ShardedDomain(region, "events", 8);
+ * domain.create();
+ * domain.item("e-42").put("type", "login");</pre>
+ *
+ * <p>The shard of an item depends on its name and on the number and
+ * order of shards only, see {@link String#hashCode()}. Don't change
+ * them while there are items in the shards, or the items won't be found.
+ *
+ * <p>The expression of {@link #select(SelectRequest)} selects from
+ * the logical domain, by its name. The select runs on all shards in
+ * parallel, with the name of every shard in the expression, and their
+ * items are merged. Every shard is fetched page after page in a thread
+ * of its own, not more than a thousand items ahead of the consumer;
+ * close the stream, or the iterator, which is {@link Closeable}, if
+ * it's not consumed to the end, in order to stop fetching. If the
+ * expression has {@code ORDER BY}, items are merged in that order. To
+ * compare items of different shards, the attribute to sort by is added
+ * to the output of every shard, if it isn't selected, so items may have
+ * it even if it's not requested. {@code LIMIT} applies to pages of
+ * every shard. Batches group writes by shards. Counts and metadata are
+ * summed up by shards, while {@link Metadata#usage()} is of the fullest
+ * shard.
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle ClassFanOutComplexityCheck (500 lines)
+ */
+@EqualsAndHashCode(of = { "label", "shards" })
+@SuppressWarnings("PMD.TooManyMethods")
+public final class ShardedDomain implements Domain {
+
+    /**
+     * Threads selecting from shards, shared by all domains.
+     */
+    private static final ExecutorService THREADS =
+        Executors.newCachedThreadPool(new VerboseThreads("simpledb-shards"));
+
+    /**
+     * Maximum number of items of a shard fetched ahead of the consumer.
+     */
+    private static final int AHEAD = 1000;
+
+    /**
+     * Domain name in a select expression.
+     */
+    private static final Pattern FROM = Pattern.compile(
+        "\\bfrom\\s+(`(?:[^`]|``)+`|[a-zA-Z0-9_.-]+)",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Order in a select expression.
+     */
+    private static final Pattern ORDER = Pattern.compile(
+        String.join(
+            "",
+            "\\border\\s+by\\s+",
+            "(`(?:[^`]|``)+`|itemName\\(\\)|[a-zA-Z0-9_$]+)",
+            "(?:\\s+(asc|desc))?"
+        ),
+        Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Output in a select expression.
+     */
+    private static final Pattern OUTPUT = Pattern.compile(
+        "^\\s*select\\s+(.+?)\\s+from\\s",
+        Pattern.CASE_INSENSITIVE | Pattern.DOTALL
+    );
+
+    /**
+     * Name of the logical domain.
+     */
+    private final transient String label;
+
+    /**
+     * Shards.
+     */
+    private final transient List<Domain> shards;
+
+    /**
+     * Public ctor.
+     * @param region Region to find shards in
+     * @param name Name of the logical domain
+     * @param total Number of shards, named {@code name-0},
+     *  {@code name-1}, etc.
+     */
+    public ShardedDomain(@NotNull(message = "region can't be NULL")
+        final Region region,
+        @NotNull(message = "name can't be NULL") final String name,
+        final int total) {
+        this(name, ShardedDomain.shards(region, name, total));
+    }
+
+    /**
+     * Public ctor.
+     * @param name Name of the logical domain
+     * @param domains Shards, in order
+     */
+    public ShardedDomain(@NotNull(message = "name can't be NULL")
+        final String name,
+        @NotNull(message = "shards can't be NULL") final Domain... domains) {
+        if (domains.length == 0) {
+            throw new IllegalArgumentException(
+                String.format("there are no shards of %s", name)
+            );
+        }
+        this.label = name;
+        this.shards = Collections.unmodifiableList(
+            new ArrayList<>(Arrays.asList(domains))
+        );
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s in %d shards", this.label, this.shards.size());
+    }
+
+    @Override
+    public void create() {
+        for (final Domain shard : this.shards) {
+            shard.create();
+        }
+    }
+
+    @Override
+    public void drop() {
+        for (final Domain shard : this.shards) {
+            shard.drop();
+        }
+    }
+
+    @Override
+    public String name() {
+        return this.label;
+    }
+
+    @Override
+    public Item item(final String name) {
+        return this.shard(name).item(name);
+    }
+
+    @Override
+    public Item item(final String name, final Consistency consistency) {
+        return this.shard(name).item(name, consistency);
+    }
+
+    @Override
+    public Iterable<Item> select(final SelectRequest request) {
+        return () -> {
+            final List<PrefetchedItems> items =
+                new ArrayList<>(this.shards.size());
+            for (final Domain shard : this.shards) {
+                final SelectRequest req = this.request(request, shard);
+                items.add(
+                    new PrefetchedItems(
+                        () -> shard.select(req).iterator(),
+                        ShardedDomain.AHEAD, ShardedDomain.THREADS
+                    ).start()
+                );
+            }
+            return new ShardedDomain.Merged(
+                items, ShardedDomain.order(request)
+            );
+        };
+    }
+
+    @Override
+    public Stream<Item> stream(final SelectRequest request, final long limit) {
+        final List<PrefetchedItems> items = new ArrayList<>(this.shards.size());
+        for (final Domain shard : this.shards) {
+            final SelectRequest req = this.request(request, shard);
+            items.add(
+                new PrefetchedItems(
+                    () -> new ShardedDomain.Streamed(shard.stream(req, limit)),
+                    ShardedDomain.AHEAD, ShardedDomain.THREADS
+                ).start()
+            );
+        }
+        final ShardedDomain.Merged merged = new ShardedDomain.Merged(
+            items, ShardedDomain.order(request)
+        );
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                merged, Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            false
+        ).onClose(merged::close).limit(limit);
+    }
+
+    @Override
+    public long count(final SelectRequest request) {
+        long total = 0L;
+        for (final Long count : this.gather(
+            shard -> shard.count(this.request(request, shard))
+        )) {
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public Metadata metadata() {
+        final List<Metadata> all = this.gather(Domain::metadata);
+        Metadata total = all.get(0);
+        for (final Metadata meta : all.subList(1, all.size())) {
+            total = total.merged(meta);
+        }
+        return total;
+    }
+
+    @Override
+    public Batch batch(final Executor executor) {
+        return new ShardedDomain.Batches(this, executor);
+    }
+
+    /**
+     * Find the shard of an item.
+     * @param item Name of the item
+     * @return Shard
+     */
+    private Domain shard(final String item) {
+        final int hash = item.hashCode();
+        return this.shards.get(
+            Math.floorMod(hash ^ hash >>> 16, this.shards.size())
+        );
+    }
+
+    /**
+     * Make a select request to a shard.
+     * @param request Select request to the logical domain
+     * @param shard The shard
+     * @return Request to the shard
+     */
+    private SelectRequest request(final SelectRequest request,
+        final Domain shard) {
+        final Matcher matcher = ShardedDomain.FROM.matcher(
+            request.getSelectExpression()
+        );
+        if (!matcher.find()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "no domain in the expression: %s",
+                    request.getSelectExpression()
+                )
+            );
+        }
+        final String expr = new StringBuilder(0)
+            .append(request.getSelectExpression(), 0, matcher.start(1))
+            .append(ShardedDomain.quote(shard.name()))
+            .append(request.getSelectExpression().substring(matcher.end(1)))
+            .toString();
+        return request.clone().withSelectExpression(
+            ShardedDomain.projected(expr)
+        );
+    }
+
+    /**
+     * Call all shards in parallel and wait for all of them.
+     * @param call The call to a shard
+     * @param <T> Type of result
+     * @return Results, in the order of shards
+     */
+    private <T> List<T> gather(final Function<Domain, T> call) {
+        final List<CompletableFuture<T>> futures =
+            new ArrayList<>(this.shards.size());
+        for (final Domain shard : this.shards) {
+            futures.add(
+                CompletableFuture.supplyAsync(
+                    () -> call.apply(shard), ShardedDomain.THREADS
+                )
+            );
+        }
+        final List<T> results = new ArrayList<>(futures.size());
+        for (final CompletableFuture<T> future : futures) {
+            results.add(ShardedDomain.join(future));
+        }
+        return results;
+    }
+
+    /**
+     * Add the attribute to sort by to the output of the expression,
+     * if it's not there.
+     * @param expr Select expression
+     * @return Expression, maybe the same
+     */
+    private static String projected(final String expr) {
+        final Matcher order = ShardedDomain.ORDER.matcher(expr);
+        final Matcher output = ShardedDomain.OUTPUT.matcher(expr);
+        String result = expr;
+        if (order.find() && output.find()
+            && !"itemname()".equalsIgnoreCase(order.group(1))) {
+            final String attr = ShardedDomain.unquote(order.group(1));
+            final String out = output.group(1).trim();
+            final String lower = out.toLowerCase(Locale.ENGLISH);
+            String replacement = null;
+            if ("itemname()".equals(lower)) {
+                replacement = ShardedDomain.quote(attr);
+            } else if (!"*".equals(out) && !lower.startsWith("count")
+                && !ShardedDomain.names(out).contains(attr)) {
+                replacement = String.format(
+                    "%s, %s", out, ShardedDomain.quote(attr)
+                );
+            }
+            if (replacement != null) {
+                result = new StringBuilder(0)
+                    .append(expr, 0, output.start(1))
+                    .append(replacement)
+                    .append(expr.substring(output.end(1)))
+                    .toString();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parse names of attributes in the output of an expression.
+     * @param out Output, names separated by commas
+     * @return Names, without quotes
+     */
+    private static Collection<String> names(final String out) {
+        final Collection<String> names = new ArrayList<>(1);
+        boolean quoted = false;
+        int start = 0;
+        for (int idx = 0; idx <= out.length(); ++idx) {
+            if (idx == out.length() || out.charAt(idx) == ',' && !quoted) {
+                names.add(
+                    ShardedDomain.unquote(out.substring(start, idx).trim())
+                );
+                start = idx + 1;
+            } else if (out.charAt(idx) == '`') {
+                quoted = !quoted;
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Remove backticks around a name, if they are there.
+     * @param name Name, maybe quoted
+     * @return Name
+     */
+    private static String unquote(final String name) {
+        String plain = name;
+        if (name.length() > 1 && name.charAt(0) == '`') {
+            plain = name.substring(1, name.length() - 1).replace("``", "`");
+        }
+        return plain;
+    }
+
+    /**
+     * Quote a name with backticks.
+     * @param name Name
+     * @return Quoted name
+     */
+    private static String quote(final String name) {
+        return String.format("`%s`", name.replace("`", "``"));
+    }
+
+    /**
+     * Wait for the future, rethrowing its failure as it is.
+     * @param future The future
+     * @param <T> Type of result
+     * @return Result
+     */
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Make shards of the logical domain.
+     * @param region Region to find shards in
+     * @param name Name of the logical domain
+     * @param total Number of shards
+     * @return Shards
+     */
+    private static Domain[] shards(final Region region, final String name,
+        final int total) {
+        final Domain[] shards = new Domain[total];
+        for (int idx = 0; idx < total; ++idx) {
+            shards[idx] = region.domain(String.format("%s-%d", name, idx));
+        }
+        return shards;
+    }
+
+    /**
+     * Make the order of items, as the expression requires.
+     * @param request Select request
+     * @return Order of items or NULL if they are not sorted
+     */
+    private static Comparator<Item> order(final SelectRequest request) {
+        final Matcher matcher = ShardedDomain.ORDER.matcher(
+            request.getSelectExpression()
+        );
+        Comparator<Item> order = null;
+        if (matcher.find()) {
+            final String attr = matcher.group(1);
+            if ("itemname()".equalsIgnoreCase(attr)) {
+                order = Comparator.comparing(Item::name);
+            } else {
+                final String name = ShardedDomain.unquote(attr);
+                order = Comparator.comparing(
+                    item -> item.get(name),
+                    Comparator.nullsLast(Comparator.<String>naturalOrder())
+                );
+            }
+            if ("desc".equalsIgnoreCase(matcher.group(2))) {
+                order = order.reversed();
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Items of all shards, merged.
+     *
+     * <p>If there is no order, shards are walked one after another,
+     * otherwise the smallest of the next items of all shards is taken.
+     *
+     * @since 1.0
+     */
+    private static final class Merged implements Iterator<Item>, Closeable {
+
+        /**
+         * Items of shards.
+         */
+        private final transient List<PrefetchedItems> items;
+
+        /**
+         * Order of items or NULL.
+         */
+        private final transient Comparator<Item> order;
+
+        /**
+         * The next items of all shards, or NULL where they are not taken.
+         */
+        private final transient Item[] heads;
+
+        /**
+         * Ctor.
+         * @param iters Items of shards
+         * @param cmp Order of items or NULL
+         */
+        Merged(final List<PrefetchedItems> iters,
+            final Comparator<Item> cmp) {
+            this.items = iters;
+            this.order = cmp;
+            this.heads = new Item[iters.size()];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.pick() >= 0;
+        }
+
+        @Override
+        public Item next() {
+            final int shard = this.pick();
+            if (shard < 0) {
+                throw new NoSuchElementException();
+            }
+            final Item item = this.heads[shard];
+            this.heads[shard] = null;
+            return item;
+        }
+
+        @Override
+        public void close() {
+            for (final PrefetchedItems iterator : this.items) {
+                iterator.close();
+            }
+        }
+
+        /**
+         * Find the shard of the next item.
+         * @return Position of the shard or -1 if there are no more items
+         */
+        private int pick() {
+            int found = -1;
+            for (int idx = 0; idx < this.heads.length; ++idx) {
+                if (this.heads[idx] == null && this.items.get(idx).hasNext()) {
+                    this.heads[idx] = this.items.get(idx).next();
+                }
+                if (this.heads[idx] != null && (found < 0
+                    || this.order != null && this.order.compare(
+                        this.heads[idx], this.heads[found]
+                    ) < 0)) {
+                    found = idx;
+                }
+                if (found >= 0 && this.order == null) {
+                    break;
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * Items of a stream, which closes the stream when closed.
+     * @since 1.0
+     */
+    private static final class Streamed implements Iterator<Item>, Closeable {
+
+        /**
+         * The stream.
+         */
+        private final transient Stream<Item> stream;
+
+        /**
+         * Items of the stream.
+         */
+        private final transient Iterator<Item> items;
+
+        /**
+         * Ctor.
+         * @param strm The stream
+         */
+        Streamed(final Stream<Item> strm) {
+            this.stream = strm;
+            this.items = strm.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.items.hasNext();
+        }
+
+        @Override
+        public Item next() {
+            return this.items.next();
+        }
+
+        @Override
+        public void close() {
+            this.stream.close();
+        }
+    }
+
+    /**
+     * Batches of all shards.
+     *
+     * <p>Every shard gets its own batch, when the first write to it
+     * comes. Flush flushes all of them, one by one.
+     *
+     * @since 1.0
+     */
+    private static final class Batches implements Batch {
+
+        /**
+         * The domain.
+         */
+        private final transient ShardedDomain domain;
+
+        /**
+         * Executor to send batches on.
+         */
+        private final transient Executor executor;
+
+        /**
+         * Batches by shards.
+         */
+        private final transient Map<Domain, Batch> batches;
+
+        /**
+         * Ctor.
+         * @param dmn The domain
+         * @param exec Executor to send batches on
+         */
+        Batches(final ShardedDomain dmn, final Executor exec) {
+            this.domain = dmn;
+            this.executor = exec;
+            this.batches = new HashMap<>(0);
+        }
+
+        @Override
+        public void put(final String item,
+            final Map<? extends String, ? extends String> attrs) {
+            this.batch(item).put(item, attrs);
+        }
+
+        @Override
+        public void delete(final String item) {
+            this.batch(item).delete(item);
+        }
+
+        @Override
+        public void delete(final String item,
+            final Collection<String> attrs) {
+            this.batch(item).delete(item, attrs);
+        }
+
+        @Override
+        public Map<String, Exception> flush() {
+            final Map<String, Exception> failed = new HashMap<>(0);
+            for (final Batch batch : this.batches.values()) {
+                failed.putAll(batch.flush());
+            }
+            return failed;
+        }
+
+        /**
+         * Get the batch of the shard of the item.
+         * @param item Name of the item
+         * @return Batch
+         */
+        private Batch batch(final String item) {
+            return this.batches.computeIfAbsent(
+                this.domain.shard(item), shard -> shard.batch(this.executor)
+            );
+        }
+    }
+}
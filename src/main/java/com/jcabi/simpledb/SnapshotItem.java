@@ -0,0 +1,193 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.Attribute;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Item with attributes already loaded from SimpleDB.
+ *
+ * <p>All reads are served from memory, without calls to SimpleDB,
+ * while all writes go to SimpleDB and don't change the attributes
+ * in memory. Use {@link #fresh()} to load them again. Methods of
+ * {@link Map} see the first value of every attribute,
+ * {@link #all(String)} sees all of them.
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = { "origin", "multi" })
+final class SnapshotItem implements Item {
+
+    /**
+     * Original item, to write to.
+     */
+    private final transient Item origin;
+
+    /**
+     * Attributes loaded, with all their values.
+     */
+    private final transient Map<String, List<String>> multi;
+
+    /**
+     * Attributes loaded, with their first values.
+     */
+    private final transient Map<String, String> attrs;
+
+    /**
+     * Public ctor.
+     * @param item Original item
+     * @param list Attributes loaded
+     */
+    SnapshotItem(final Item item, final Collection<Attribute> list) {
+        this(item, SnapshotItem.asMap(list));
+    }
+
+    /**
+     * Public ctor.
+     * @param item Original item
+     * @param map Attributes loaded, with all their values
+     */
+    private SnapshotItem(final Item item,
+        final Map<String, List<String>> map) {
+        this.origin = item;
+        this.multi = Collections.unmodifiableMap(map);
+        final Map<String, String> first = new LinkedHashMap<>(map.size());
+        for (final Map.Entry<String, List<String>> entry : map.entrySet()) {
+            first.put(entry.getKey(), entry.getValue().get(0));
+        }
+        this.attrs = Collections.unmodifiableMap(first);
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Item fresh() {
+        return this.origin.fresh();
+    }
+
+    @Override
+    public Item fresh(final Collection<String> names) {
+        return this.origin.fresh(names);
+    }
+
+    @Override
+    public int size() {
+        return this.attrs.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.attrs.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.attrs.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.attrs.containsValue(value);
+    }
+
+    @Override
+    public String get(final Object key) {
+        return this.attrs.get(key);
+    }
+
+    @Override
+    public List<String> all(final String name) {
+        return this.multi.getOrDefault(name, Collections.emptyList());
+    }
+
+    @Override
+    public void append(final String name, final Collection<String> values) {
+        this.origin.append(name, values);
+    }
+
+    @Override
+    public String put(final String key, final String value) {
+        this.origin.putAll(Collections.singletonMap(key, value));
+        return this.attrs.get(key);
+    }
+
+    @Override
+    public String remove(final Object key) {
+        this.origin.remove(key);
+        return this.attrs.get(key);
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends String> map) {
+        this.origin.putAll(map);
+    }
+
+    @Override
+    public void putAll(final Map<String, String> map,
+        final Condition condition) {
+        this.origin.putAll(map, condition);
+    }
+
+    @Override
+    public void delete(final Collection<String> names,
+        final Condition condition) {
+        this.origin.delete(names, condition);
+    }
+
+    @Override
+    public void clear() {
+        this.origin.clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return this.attrs.keySet();
+    }
+
+    @Override
+    public Collection<String> values() {
+        return this.attrs.values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return this.attrs.entrySet();
+    }
+
+    /**
+     * Convert attributes to a map.
+     * @param list Attributes
+     * @return Map of them
+     */
+    private static Map<String, List<String>> asMap(
+        final Collection<Attribute> list) {
+        final Map<String, List<String>> map =
+            new LinkedHashMap<>(list.size());
+        for (final Attribute attr : list) {
+            map.computeIfAbsent(attr.getName(), name -> new ArrayList<>(1))
+                .add(attr.getValue());
+        }
+        for (final Map.Entry<String, List<String>> entry : map.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return map;
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Rate limiter and retrier of calls to SimpleDB.
+ *
+ * <p>Calls to every domain are limited by a token bucket, which lets
+ * through a burst of calls and then the given number of calls per second.
+ * Calls over the limit wait for their turn.
+ *
+ * <p>A call failed because SimpleDB is throttling or unavailable is
+ * retried, after a random delay, which grows exponentially with every
+ * attempt ("full jitter"). Retries are limited by a budget shared by
+ * all calls: every call adds a tenth of a retry to it, every retry takes
+ * one. When the budget is exhausted, failures are not retried at all,
+ * so a long outage doesn't multiply the load on SimpleDB. Every retry
+ * is counted in {@link Metrics}, as {@link Metrics#RETRIES}.
+ *
+ * @since 1.0
+ */
+final class Throttle implements Interceptor {
+
+    /**
+     * First delay before retry, in nanoseconds.
+     */
+    private static final long BASE = TimeUnit.MILLISECONDS.toNanos(50L);
+
+    /**
+     * Maximum delay before retry, in nanoseconds.
+     */
+    private static final long CAP = TimeUnit.SECONDS.toNanos(5L);
+
+    /**
+     * Maximum retries of one call.
+     */
+    private static final int ATTEMPTS = 32;
+
+    /**
+     * Maximum growth of the delay before retry, as a power of two.
+     */
+    private static final int SHIFT = 16;
+
+    /**
+     * One retry in the budget.
+     */
+    private static final long RETRY = 10L;
+
+    /**
+     * Maximum retries in the budget.
+     */
+    private static final long MAX = 10L * Throttle.RETRY;
+
+    /**
+     * Error codes of SimpleDB, which are worth a retry.
+     */
+    private static final Collection<String> TRANSIENT = Arrays.asList(
+        "ServiceUnavailable", "RequestTimeout", "InternalError"
+    );
+
+    /**
+     * Calls per second, per domain.
+     */
+    private final transient double rate;
+
+    /**
+     * Maximum burst of calls, per domain.
+     */
+    private final transient int burst;
+
+    /**
+     * Maximum retries of one call.
+     */
+    private final transient int retries;
+
+    /**
+     * Buckets of tokens, by domain names.
+     */
+    private final transient ConcurrentMap<String, Throttle.Bucket> buckets;
+
+    /**
+     * Retries available, in tenths.
+     */
+    private final transient AtomicLong budget;
+
+    /**
+     * Metrics to count retries in.
+     */
+    private final transient Metrics metrics;
+
+    /**
+     * Ctor, without counting retries.
+     * @param calls Calls per second, per domain
+     * @param max Maximum burst of calls, per domain
+     * @param attempts Maximum retries of one call
+     */
+    Throttle(final double calls, final int max, final int attempts) {
+        this(calls, max, attempts, new Throttle.Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param calls Calls per second, per domain
+     * @param max Maximum burst of calls, per domain
+     * @param attempts Maximum retries of one call
+     * @param mtr Metrics to count retries in
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Throttle(final double calls, final int max, final int attempts,
+        final Metrics mtr) {
+        if (!(calls > 0.0d) || Double.isInfinite(calls)) {
+            throw new IllegalArgumentException(
+                String.format("rate %f must be positive and finite", calls)
+            );
+        }
+        if (max < 1) {
+            throw new IllegalArgumentException(
+                String.format("burst %d must be positive", max)
+            );
+        }
+        if (attempts < 0 || attempts > Throttle.ATTEMPTS) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "retries %d must be between 0 and %d",
+                    attempts, Throttle.ATTEMPTS
+                )
+            );
+        }
+        this.rate = calls;
+        this.burst = max;
+        this.retries = attempts;
+        this.buckets = new ConcurrentHashMap<>(0);
+        this.budget = new AtomicLong(Throttle.MAX);
+        this.metrics = mtr;
+    }
+
+    @Override
+    public <T> T intercept(final String action, final String domain,
+        final AmazonWebServiceRequest request, final Supplier<T> call) {
+        final Throttle.Bucket bucket = this.buckets.computeIfAbsent(
+            domain,
+            key -> new Throttle.Bucket(this.rate, this.burst)
+        );
+        this.budget.updateAndGet(
+            tenths -> Math.min(Throttle.MAX, tenths + 1L)
+        );
+        int attempt = 0;
+        T result = null;
+        boolean done = false;
+        while (!done) {
+            Throttle.sleep(bucket.reserve());
+            try {
+                result = call.get();
+                done = true;
+            } catch (final AmazonClientException ex) {
+                if (attempt >= this.retries || !Throttle.worth(ex)
+                    || !this.withdraw()) {
+                    throw ex;
+                }
+                ++attempt;
+                this.metrics.count(action, domain, Metrics.RETRIES, 1.0d);
+                Throttle.sleep(
+                    ThreadLocalRandom.current().nextLong(
+                        Math.min(
+                            Throttle.CAP,
+                            Throttle.BASE << Math.min(attempt, Throttle.SHIFT)
+                        )
+                    )
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Take one retry from the budget, if it's there.
+     * @return TRUE if taken
+     */
+    private boolean withdraw() {
+        return this.budget.getAndUpdate(
+            tenths -> {
+                final long left;
+                if (tenths >= Throttle.RETRY) {
+                    left = tenths - Throttle.RETRY;
+                } else {
+                    left = tenths;
+                }
+                return left;
+            }
+        ) >= Throttle.RETRY;
+    }
+
+    /**
+     * Is it a failure worth a retry?
+     * @param error The failure
+     * @return TRUE if it may go away with time
+     */
+    private static boolean worth(final AmazonClientException error) {
+        final boolean worth;
+        if (error instanceof AmazonServiceException) {
+            final AmazonServiceException ase =
+                AmazonServiceException.class.cast(error);
+            worth = ase.getStatusCode() >= 500
+                || Throttle.TRANSIENT.contains(ase.getErrorCode());
+        } else {
+            worth = error.isRetryable();
+        }
+        return worth;
+    }
+
+    /**
+     * Sleep for a while.
+     * @param nanos How long, in nanoseconds
+     */
+    private static void sleep(final long nanos) {
+        if (nanos > 0L) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException(
+                    "Interrupted while waiting for SimpleDB", ex
+                );
+            }
+        }
+    }
+
+    /**
+     * Metrics, which ignore everything.
+     *
+     * @since 1.0
+     */
+    private static final class Silent implements Metrics {
+        @Override
+        public void time(final String action, final String domain,
+            final long nanos) {
+            // nothing to record
+        }
+
+        @Override
+        public void count(final String action, final String domain,
+            final String counter, final double amount) {
+            // nothing to count
+        }
+    }
+
+    /**
+     * Bucket of tokens, one per call.
+     *
+     * @since 1.0
+     */
+    private static final class Bucket {
+
+        /**
+         * Tokens added per nanosecond.
+         */
+        private final transient double speed;
+
+        /**
+         * Maximum tokens.
+         */
+        private final transient double capacity;
+
+        /**
+         * Tokens available, negative if reserved ahead.
+         */
+        private transient double tokens;
+
+        /**
+         * When tokens were added last time, in nanoseconds.
+         */
+        private transient long refilled;
+
+        /**
+         * Ctor.
+         * @param calls Calls per second
+         * @param max Maximum burst of calls
+         */
+        Bucket(final double calls, final int max) {
+            this.speed = calls / (double) TimeUnit.SECONDS.toNanos(1L);
+            this.capacity = (double) max;
+            this.tokens = (double) max;
+            this.refilled = System.nanoTime();
+        }
+
+        /**
+         * Take a token, maybe ahead of time.
+         * @return How long to wait for it, in nanoseconds
+         */
+        synchronized long reserve() {
+            final long now = System.nanoTime();
+            this.tokens = Math.min(
+                this.capacity,
+                this.tokens + (double) (now - this.refilled) * this.speed
+            );
+            this.refilled = now;
+            this.tokens -= 1.0d;
+            long wait = 0L;
+            if (this.tokens < 0.0d) {
+                wait = (long) (-this.tokens / this.speed);
+            }
+            return wait;
+        }
+    }
+}
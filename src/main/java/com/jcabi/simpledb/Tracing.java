@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.jcabi.log.Logger;
+import java.util.function.Supplier;
+
+/**
+ * Interceptor, which logs every call with TRACE level.
+ *
+ * <p>Clients are wrapped with it only when TRACE level is enabled for
+ * this class, see {@link Clients}. Otherwise calls don't go through it
+ * and tracing costs nothing.
+ *
+ * @since 1.0
+ */
+final class Tracing implements Interceptor {
+
+    @Override
+    public String toString() {
+        return "tracing";
+    }
+
+    @Override
+    public <T> T intercept(final String action, final String domain,
+        final AmazonWebServiceRequest request, final Supplier<T> call) {
+        final long start = System.nanoTime();
+        try {
+            final T result = call.get();
+            Logger.trace(
+                this, "#%s() in %s: %s in %[nano]s",
+                action, domain, request, System.nanoTime() - start
+            );
+            return result;
+        } catch (final AmazonClientException ex) {
+            Logger.trace(
+                this, "#%s() in %s: %s failed in %[nano]s: %s",
+                action, domain, request, System.nanoTime() - start,
+                ex.getMessage()
+            );
+            throw ex;
+        }
+    }
+
+    /**
+     * Is tracing enabled?
+     * @return TRUE if TRACE level is enabled for this class
+     */
+    static boolean enabled() {
+        return Logger.isTraceEnabled(Tracing.class);
+    }
+}
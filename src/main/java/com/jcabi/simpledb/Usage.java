@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonWebServiceRequest;
+
+/**
+ * Machine hours SimpleDB used to serve calls, as reported in
+ * {@code BoxUsage} of its responses.
+ *
+ * <p>Iterators of items selected from SimpleDB implement it and report
+ * the usage of all pages they fetched so far, for example:
+ *
+ * <pre> Iterator&lt;Item&gt; items = domain.select(request).iterator();
+ * while (items.hasNext()) {
+ *   items.next();
+ * }
+ * double hours = Usage.class.cast(items).boxUsage();</pre>
+ *
+ * <p>To see the usage of every call, use {@link Credentials.Billed}
+ * with a {@link Usage.Listener}.
+ *
+ * @since 1.0
+ */
+public interface Usage {
+
+    /**
+     * Get box usage so far.
+     * @return Machine hours
+     */
+    double boxUsage();
+
+    /**
+     * Listener of box usage of every call.
+     *
+     * <p>Implementations must be thread-safe and fast, since they are
+     * called in the threads making calls.
+     *
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface Listener {
+
+        /**
+         * The call was made.
+         * @param action Name of SimpleDB action, like "Select"
+         * @param domain Name of the domain, empty if unknown
+         * @param request Request sent
+         * @param hours Machine hours used by SimpleDB
+         */
+        void used(String action, String domain,
+            AmazonWebServiceRequest request, double hours);
+    }
+}
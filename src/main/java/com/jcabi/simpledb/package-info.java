@@ -14,6 +14,10 @@
  *   &lt;artifactId&gt;jcabi-simpledb&lt;/artifactId&gt;
  * &lt;/dependency&gt;</pre>
  *
+ * <p>To see every call to SimpleDB in the log, enable TRACE level for
+ * {@code com.jcabi.simpledb.Tracing}. Items and iterators are not
+ * instrumented, they cost nothing extra in tight loops.
+ *
  * @since 0.1
  * @see <a href="http://www.jcabi.com/jcabi-simpledb">project website</a>
  */
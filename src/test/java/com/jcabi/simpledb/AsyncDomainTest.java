@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link AsyncDomain}.
+ * @since 1.0
+ */
+final class AsyncDomainTest {
+
+    @Test
+    void readsAttributeInBackground() {
+        final Item item = Mockito.mock(Item.class);
+        Mockito.doReturn("one").when(item).get("alpha");
+        final Domain domain = Mockito.mock(Domain.class);
+        Mockito.doReturn(item).when(domain).item("item-1");
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            MatcherAssert.assertThat(
+                "attribute should be read",
+                new AsyncDomain(domain, exec).item("item-1")
+                    .get("alpha").join(),
+                Matchers.equalTo("one")
+            );
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test
+    void selectsItemsInBackground() {
+        final Item item = Mockito.mock(Item.class);
+        final Domain domain = Mockito.mock(Domain.class);
+        Mockito.doReturn(Collections.singletonList(item))
+            .when(domain).select(ArgumentMatchers.any(SelectRequest.class));
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            MatcherAssert.assertThat(
+                "items should be selected",
+                new AsyncDomain(domain, exec)
+                    .select(new SelectRequest()).join(),
+                Matchers.contains(item)
+            );
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test
+    void givesSelectedItemsToConsumer() {
+        final Item item = Mockito.mock(Item.class);
+        final Domain domain = Mockito.mock(Domain.class);
+        Mockito.doReturn(Arrays.asList(item, item))
+            .when(domain).select(ArgumentMatchers.any(SelectRequest.class));
+        final List<Item> seen = new CopyOnWriteArrayList<>();
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            MatcherAssert.assertThat(
+                "items should be counted",
+                new AsyncDomain(domain, exec)
+                    .select(new SelectRequest(), seen::add).join(),
+                Matchers.equalTo(2L)
+            );
+        } finally {
+            exec.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "items should be consumed",
+            seen,
+            Matchers.contains(item, item)
+        );
+    }
+
+    @Test
+    void putsAttributesIfConditionHolds() {
+        final Item item = Mockito.mock(Item.class);
+        final Domain domain = Mockito.mock(Domain.class);
+        Mockito.doReturn(item).when(domain).item("item-1");
+        final Map<String, String> attrs =
+            Collections.singletonMap("alpha", "two");
+        final Condition condition = new Condition("alpha", "one");
+        Mockito.doThrow(new ConflictException("conflict", null))
+            .when(item).putAll(attrs, condition);
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            final CompletionException ex = Assertions.assertThrows(
+                CompletionException.class,
+                () -> new AsyncDomain(domain, exec).item("item-1")
+                    .putAll(attrs, condition).join(),
+                "conditional put should fail"
+            );
+            MatcherAssert.assertThat(
+                "conflict should be reported",
+                ex.getCause(),
+                Matchers.instanceOf(ConflictException.class)
+            );
+        } finally {
+            exec.shutdown();
+        }
+    }
+}
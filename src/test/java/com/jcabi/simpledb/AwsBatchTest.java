@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.model.BatchDeleteAttributesRequest;
+import com.amazonaws.services.simpledb.model.BatchPutAttributesRequest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link AwsBatch}.
+ * @since 1.0
+ */
+final class AwsBatchTest {
+
+    @Test
+    void sendsItemsInBatchesOfTwentyFive() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final Batch batch = new AwsBatch(credentials, "table-1", Runnable::run);
+        for (int idx = 0; idx < 30; ++idx) {
+            batch.put(
+                String.format("item-%d", idx),
+                Collections.singletonMap("alpha", "one")
+            );
+        }
+        batch.delete("item-0");
+        batch.flush();
+        Mockito.verify(aws, Mockito.times(2)).batchPutAttributes(
+            ArgumentMatchers.any(BatchPutAttributesRequest.class)
+        );
+        Mockito.verify(aws).batchDeleteAttributes(
+            ArgumentMatchers.any(BatchDeleteAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void reportsFailedItems() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doThrow(new AmazonServiceException("throttled"))
+            .when(aws).batchPutAttributes(
+                ArgumentMatchers.any(BatchPutAttributesRequest.class)
+            );
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final Batch batch = new AwsBatch(credentials, "table-2", Runnable::run);
+        batch.put("item-x", Collections.singletonMap("beta", "two"));
+        MatcherAssert.assertThat(
+            "failed item should be reported",
+            batch.flush(),
+            Matchers.hasKey("item-x")
+        );
+    }
+
+    @Test
+    void rejectsPutsSimpleDbWouldReject() {
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        final Batch batch = new AwsBatch(credentials, "table-3", Runnable::run);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> batch.put("item-1", Collections.emptyMap()),
+            "put without attributes should be rejected"
+        );
+        final Map<String, String> attrs = new HashMap<>(0);
+        for (int idx = 0; idx < 257; ++idx) {
+            attrs.put(String.format("attr-%d", idx), "one");
+        }
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> batch.put("item-2", attrs),
+            "too many attributes should be rejected"
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> batch.put(
+                "item-3",
+                Collections.singletonMap("alpha", StringUtils.repeat('a', 1 << 20))
+            ),
+            "too big item should be rejected"
+        );
+        Mockito.verify(credentials, Mockito.never()).aws();
+    }
+
+    @Test
+    void sendsPutsBeforeCallIsTooBig() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final Batch batch = new AwsBatch(credentials, "table-4", Runnable::run);
+        for (int idx = 0; idx < 3; ++idx) {
+            batch.put(
+                String.format("item-%d", idx),
+                Collections.singletonMap("alpha", StringUtils.repeat('b', 400_000))
+            );
+        }
+        batch.flush();
+        Mockito.verify(aws, Mockito.times(2)).batchPutAttributes(
+            ArgumentMatchers.any(BatchPutAttributesRequest.class)
+        );
+    }
+}
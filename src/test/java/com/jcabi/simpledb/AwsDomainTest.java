@@ -4,9 +4,18 @@
  */
 package com.jcabi.simpledb;
 
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.model.DomainMetadataRequest;
+import com.amazonaws.services.simpledb.model.DomainMetadataResult;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.amazonaws.services.simpledb.model.SelectResult;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
 /**
@@ -23,4 +32,136 @@ final class AwsDomainTest {
         final Item item = table.item("x");
         MatcherAssert.assertThat("should be not null", item, Matchers.notNullValue());
     }
+
+    @Test
+    void selectsEventuallyWhenConfigured() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(new SelectResult()).when(aws).select(
+            ArgumentMatchers.any(SelectRequest.class)
+        );
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        new AwsDomain(credentials, "test-2", Consistency.EVENTUAL, 0)
+            .select(new SelectRequest("SELECT * FROM `test-2`"))
+            .iterator().hasNext();
+        final ArgumentCaptor<SelectRequest> request =
+            ArgumentCaptor.forClass(SelectRequest.class);
+        Mockito.verify(aws).select(request.capture());
+        MatcherAssert.assertThat(
+            "select should read eventually",
+            request.getValue().getConsistentRead(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void keepsConsistencyOfSelectRequest() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(new SelectResult()).when(aws).select(
+            ArgumentMatchers.any(SelectRequest.class)
+        );
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        new AwsDomain(credentials, "test-3", Consistency.EVENTUAL, 0)
+            .select(new SelectRequest("SELECT * FROM `test-3`", true))
+            .iterator().hasNext();
+        final ArgumentCaptor<SelectRequest> request =
+            ArgumentCaptor.forClass(SelectRequest.class);
+        Mockito.verify(aws).select(request.capture());
+        MatcherAssert.assertThat(
+            "select should read as requested",
+            request.getValue().getConsistentRead(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void pushesLimitOfStreamToSelect() {
+        final AmazonSimpleDB aws = Mockito.spy(new MemorySimpleDB());
+        final Domain domain = new AwsDomain(() -> aws, "test-4");
+        domain.create();
+        for (int idx = 0; idx < 20; ++idx) {
+            domain.item(String.format("item-%02d", idx)).put("alpha", "");
+        }
+        try (Stream<Item> items = domain.stream(
+            new SelectRequest("SELECT * FROM `test-4` LIMIT 10"), 3L
+        )) {
+            MatcherAssert.assertThat(
+                "items should be limited",
+                items.map(Item::name).collect(Collectors.toList()),
+                Matchers.contains("item-00", "item-01", "item-02")
+            );
+        }
+        final ArgumentCaptor<SelectRequest> request =
+            ArgumentCaptor.forClass(SelectRequest.class);
+        Mockito.verify(aws).select(request.capture());
+        MatcherAssert.assertThat(
+            "limit should be pushed to the select",
+            request.getValue().getSelectExpression(),
+            Matchers.equalTo("SELECT * FROM `test-4` LIMIT 3")
+        );
+    }
+
+    @Test
+    void streamsAllPagesOfSelect() {
+        final AmazonSimpleDB aws = Mockito.spy(new MemorySimpleDB());
+        final Domain domain = new AwsDomain(
+            () -> aws, "test-5", Consistency.STRONG, 2
+        );
+        domain.create();
+        for (int idx = 0; idx < 7; ++idx) {
+            domain.item(String.format("item-%d", idx)).put("beta", "");
+        }
+        try (Stream<Item> items = domain.stream(
+            new SelectRequest("select itemName() from `test-5` limit 2"),
+            Long.MAX_VALUE
+        )) {
+            MatcherAssert.assertThat(
+                "all items should be streamed",
+                items.count(),
+                Matchers.equalTo(7L)
+            );
+        }
+        Mockito.verify(aws, Mockito.times(4)).select(
+            ArgumentMatchers.any(SelectRequest.class)
+        );
+    }
+
+    @Test
+    void sumsPartialCounts() {
+        final AmazonSimpleDB aws = new MemorySimpleDB();
+        final Domain domain = new AwsDomain(() -> aws, "test-6");
+        domain.create();
+        for (int idx = 0; idx < 12; ++idx) {
+            domain.item(String.format("item-%d", idx)).put("gamma", "");
+        }
+        MatcherAssert.assertThat(
+            "partial counts should be summed up",
+            domain.count(
+                new SelectRequest("SELECT count(*) FROM `test-6` LIMIT 5")
+            ),
+            Matchers.equalTo(12L)
+        );
+    }
+
+    @Test
+    void cachesMetadata() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(new DomainMetadataResult().withItemCount(7))
+            .when(aws).domainMetadata(
+                ArgumentMatchers.any(DomainMetadataRequest.class)
+            );
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final Domain domain = new AwsDomain(credentials, "test-7");
+        domain.metadata();
+        MatcherAssert.assertThat(
+            "metadata should be cached",
+            domain.metadata().items(),
+            Matchers.equalTo(7L)
+        );
+        Mockito.verify(aws).domainMetadata(
+            ArgumentMatchers.any(DomainMetadataRequest.class)
+        );
+    }
 }
@@ -4,12 +4,18 @@
  */
 package com.jcabi.simpledb;
 
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.simpledb.AmazonSimpleDB;
 import com.amazonaws.services.simpledb.model.Attribute;
 import com.amazonaws.services.simpledb.model.GetAttributesRequest;
 import com.amazonaws.services.simpledb.model.GetAttributesResult;
+import com.amazonaws.services.simpledb.model.PutAttributesRequest;
+import com.amazonaws.services.simpledb.model.ReplaceableAttribute;
+import java.util.Arrays;
+import java.util.Collections;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
@@ -88,4 +94,124 @@ final class AwsItemTest {
             )
         );
     }
+
+    @Test
+    void loadsOnlyAttributeRequested() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(
+            new GetAttributesResult().withAttributes(
+                new Attribute().withName("attr-4").withValue("value-4")
+            )
+        ).when(aws).getAttributes(ArgumentMatchers.any(GetAttributesRequest.class));
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        MatcherAssert.assertThat(
+            "attribute should be loaded",
+            new AwsItem(credentials, "table-4", "item-4").get("attr-4"),
+            Matchers.equalTo("value-4")
+        );
+        Mockito.verify(aws).getAttributes(
+            GetAttributesRequest.class.cast(
+                MockitoHamcrest.argThat(
+                    Matchers.hasProperty(
+                        "attributeNames",
+                        Matchers.contains("attr-4")
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void loadsNothingWhenNoAttributesRequested() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        MatcherAssert.assertThat(
+            "snapshot should be empty",
+            new AwsItem(credentials, "table-4", "item-4")
+                .fresh(Collections.<String>emptyList()),
+            Matchers.anEmptyMap()
+        );
+        Mockito.verify(aws, Mockito.never()).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void readsAllValuesOfAttribute() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(
+            new GetAttributesResult().withAttributes(
+                new Attribute().withName("tags").withValue("red"),
+                new Attribute().withName("tags").withValue("green")
+            )
+        ).when(aws).getAttributes(ArgumentMatchers.any(GetAttributesRequest.class));
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final Item item = new AwsItem(credentials, "table-5", "item-5");
+        MatcherAssert.assertThat(
+            "all values should be read",
+            item.all("tags"),
+            Matchers.contains("red", "green")
+        );
+        MatcherAssert.assertThat(
+            "first value should be read",
+            item.get("tags"),
+            Matchers.equalTo("red")
+        );
+    }
+
+    @Test
+    void appendsValuesWithoutReplacing() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        new AwsItem(credentials, "table-6", "item-6")
+            .append("tags", Arrays.asList("blue", "white"));
+        Mockito.verify(aws).putAttributes(
+            PutAttributesRequest.class.cast(
+                MockitoHamcrest.argThat(
+                    Matchers.hasProperty(
+                        "attributes",
+                        Matchers.contains(
+                            new ReplaceableAttribute("tags", "blue", false),
+                            new ReplaceableAttribute("tags", "white", false)
+                        )
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void reportsConflictOfConditionalWrite() {
+        final AmazonServiceException error =
+            new AmazonServiceException("version changed");
+        error.setErrorCode("ConditionalCheckFailed");
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doThrow(error).when(aws).putAttributes(
+            ArgumentMatchers.any(PutAttributesRequest.class)
+        );
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        Assertions.assertThrows(
+            ConflictException.class,
+            () -> new AwsItem(credentials, "table-7", "item-7").putAll(
+                Collections.singletonMap("version", "2"),
+                new Condition("version", "1")
+            ),
+            "conflict should be reported"
+        );
+        Mockito.verify(aws).putAttributes(
+            PutAttributesRequest.class.cast(
+                MockitoHamcrest.argThat(
+                    Matchers.hasProperty(
+                        "expected",
+                        Matchers.hasProperty("value", Matchers.equalTo("1"))
+                    )
+                )
+            )
+        );
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.AmazonSimpleDBClient;
+import com.amazonaws.services.simpledb.SimpleDBResponseMetadata;
+import com.amazonaws.services.simpledb.model.Attribute;
+import com.amazonaws.services.simpledb.model.GetAttributesRequest;
+import com.amazonaws.services.simpledb.model.GetAttributesResult;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.amazonaws.services.simpledb.model.SelectResult;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link AwsIterator}.
+ * @since 1.0
+ */
+final class AwsIteratorTest {
+
+    @Test
+    void readsAttributesFromSelectedPage() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(
+            new SelectResult().withItems(
+                new com.amazonaws.services.simpledb.model.Item()
+                    .withName("item-1")
+                    .withAttributes(
+                        new Attribute().withName("alpha").withValue("one")
+                    )
+            )
+        ).when(aws).select(ArgumentMatchers.any(SelectRequest.class));
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        MatcherAssert.assertThat(
+            "attribute should be read from the page",
+            new AwsIterator(credentials, "table-1", new SelectRequest())
+                .next().get("alpha"),
+            Matchers.equalTo("one")
+        );
+        Mockito.verify(aws, Mockito.never()).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void reloadsSelectedItemOnDemand() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(
+            new SelectResult().withItems(
+                new com.amazonaws.services.simpledb.model.Item()
+                    .withName("item-2")
+            )
+        ).when(aws).select(ArgumentMatchers.any(SelectRequest.class));
+        Mockito.doReturn(
+            new GetAttributesResult().withAttributes(
+                new Attribute().withName("beta").withValue("two")
+            )
+        ).when(aws).getAttributes(ArgumentMatchers.any(GetAttributesRequest.class));
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        MatcherAssert.assertThat(
+            "attribute should be loaded from SimpleDB",
+            new AwsIterator(credentials, "table-2", new SelectRequest())
+                .next().fresh(),
+            Matchers.hasEntry("beta", "two")
+        );
+    }
+
+    @Test
+    void keepsSelectedPageIntact() {
+        final SelectResult page = new SelectResult().withItems(
+            new com.amazonaws.services.simpledb.model.Item().withName("a"),
+            new com.amazonaws.services.simpledb.model.Item().withName("b")
+        );
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(page).when(aws).select(
+            ArgumentMatchers.any(SelectRequest.class)
+        );
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final AwsIterator iterator =
+            new AwsIterator(credentials, "table-3", new SelectRequest());
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        MatcherAssert.assertThat(
+            "page should not be changed",
+            page.getItems(),
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void sumsBoxUsageOfPages() {
+        final AmazonSimpleDBClient aws =
+            Mockito.mock(AmazonSimpleDBClient.class);
+        Mockito.doReturn(
+            new SelectResult().withNextToken("next").withItems(
+                new com.amazonaws.services.simpledb.model.Item().withName("a")
+            ),
+            new SelectResult().withItems(
+                new com.amazonaws.services.simpledb.model.Item().withName("b")
+            )
+        ).when(aws).select(ArgumentMatchers.any(SelectRequest.class));
+        Mockito.doReturn(
+            new SimpleDBResponseMetadata(
+                Collections.singletonMap(
+                    SimpleDBResponseMetadata.BOX_USAGE, "0.25"
+                )
+            )
+        ).when(aws).getCachedResponseMetadata(
+            ArgumentMatchers.any(AmazonWebServiceRequest.class)
+        );
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final AwsIterator iterator =
+            new AwsIterator(credentials, "table-4", new SelectRequest());
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        MatcherAssert.assertThat(
+            "box usage of both pages should be summed up",
+            iterator.boxUsage(),
+            Matchers.closeTo(0.5d, 0.001d)
+        );
+    }
+}
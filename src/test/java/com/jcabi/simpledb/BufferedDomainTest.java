@@ -0,0 +1,168 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.model.BatchPutAttributesRequest;
+import com.amazonaws.services.simpledb.model.BatchPutAttributesResult;
+import com.amazonaws.services.simpledb.model.GetAttributesRequest;
+import com.amazonaws.services.simpledb.model.PutAttributesRequest;
+import com.amazonaws.services.simpledb.model.ReplaceableItem;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.mockito.hamcrest.MockitoHamcrest;
+
+/**
+ * Test case for {@link BufferedDomain}.
+ * @since 1.0
+ */
+final class BufferedDomainTest {
+
+    @Test
+    void mergesPutsToTheSameItem() throws IOException {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        try (BufferedDomain domain = new BufferedDomain(
+            new AwsDomain(credentials, "table-1"), 10, 0L
+        )) {
+            final Item item = domain.item("item-1");
+            for (int idx = 0; idx < 100; ++idx) {
+                item.putAll(
+                    Collections.singletonMap("total", Integer.toString(idx))
+                );
+            }
+            MatcherAssert.assertThat(
+                "pending put should be read",
+                item.get("total"),
+                Matchers.equalTo("99")
+            );
+        }
+        Mockito.verify(aws).batchPutAttributes(
+            BatchPutAttributesRequest.class.cast(
+                MockitoHamcrest.argThat(
+                    Matchers.hasProperty("items", Matchers.hasSize(1))
+                )
+            )
+        );
+        Mockito.verify(aws, Mockito.never()).putAttributes(
+            ArgumentMatchers.any(PutAttributesRequest.class)
+        );
+        Mockito.verify(aws, Mockito.never()).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void flushesWhenTooManyItemsPending() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final BufferedDomain domain = new BufferedDomain(
+            new AwsDomain(credentials, "table-2"), 3, 0L
+        );
+        for (int idx = 0; idx < 4; ++idx) {
+            domain.item(String.format("item-%d", idx)).putAll(
+                Collections.singletonMap("alpha", "one")
+            );
+        }
+        Mockito.verify(aws).batchPutAttributes(
+            ArgumentMatchers.any(BatchPutAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void returnsPendingValueWithoutReading() throws IOException {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        try (BufferedDomain domain = new BufferedDomain(
+            new AwsDomain(credentials, "table-3"), 10, 0L
+        )) {
+            final Item item = domain.item("item-1");
+            item.put("alpha", "one");
+            MatcherAssert.assertThat(
+                "pending value should be returned",
+                item.put("alpha", "two"),
+                Matchers.equalTo("one")
+            );
+        }
+        Mockito.verify(aws, Mockito.never()).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void readsPutsWhileTheyAreSent() throws IOException {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final BufferedDomain domain = new BufferedDomain(
+            new AwsDomain(credentials, "table-4"), 10, 0L
+        );
+        final AtomicReference<String> seen = new AtomicReference<>();
+        Mockito.doAnswer(
+            inv -> {
+                seen.set(domain.item("item-1").get("total"));
+                return new BatchPutAttributesResult();
+            }
+        ).when(aws).batchPutAttributes(
+            ArgumentMatchers.any(BatchPutAttributesRequest.class)
+        );
+        domain.item("item-1").put("total", "7");
+        domain.flush();
+        MatcherAssert.assertThat(
+            "put being sent should be read",
+            seen.get(),
+            Matchers.equalTo("7")
+        );
+        Mockito.verify(aws, Mockito.never()).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void keepsItemsWithinLimitsOfOneCall() throws IOException {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        try (BufferedDomain domain = new BufferedDomain(
+            new AwsDomain(credentials, "table-5"), 10, 0L
+        )) {
+            final Item item = domain.item("item-1");
+            for (int idx = 0; idx < 300; ++idx) {
+                item.put(String.format("attr-%d", idx), "value");
+            }
+        }
+        final ArgumentCaptor<BatchPutAttributesRequest> sent =
+            ArgumentCaptor.forClass(BatchPutAttributesRequest.class);
+        Mockito.verify(aws, Mockito.times(2)).batchPutAttributes(
+            sent.capture()
+        );
+        int total = 0;
+        for (final BatchPutAttributesRequest req : sent.getAllValues()) {
+            for (final ReplaceableItem one : req.getItems()) {
+                MatcherAssert.assertThat(
+                    "should not send more attributes than allowed",
+                    one.getAttributes(),
+                    Matchers.hasSize(Matchers.lessThanOrEqualTo(256))
+                );
+                total += one.getAttributes().size();
+            }
+        }
+        MatcherAssert.assertThat(
+            "should send all attributes",
+            total,
+            Matchers.equalTo(300)
+        );
+    }
+}
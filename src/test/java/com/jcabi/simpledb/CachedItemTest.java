@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.model.Attribute;
+import com.amazonaws.services.simpledb.model.GetAttributesRequest;
+import com.amazonaws.services.simpledb.model.GetAttributesResult;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link CachedItem}.
+ * @since 1.0
+ */
+final class CachedItemTest {
+
+    @Test
+    void loadsAttributesOnlyOnce() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(
+            new GetAttributesResult().withAttributes(
+                new Attribute().withName("alpha").withValue("one"),
+                new Attribute().withName("beta").withValue("two")
+            )
+        ).when(aws).getAttributes(ArgumentMatchers.any(GetAttributesRequest.class));
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final Item item = new CachedItem(
+            new AwsItem(credentials, "table-1", "item-1")
+        );
+        item.get("alpha");
+        item.get("beta");
+        item.containsKey("gamma");
+        Mockito.verify(aws, Mockito.times(1)).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void appliesWritesToAttributesInMemory() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(
+            new GetAttributesResult().withAttributes(
+                new Attribute().withName("delta").withValue("four")
+            )
+        ).when(aws).getAttributes(ArgumentMatchers.any(GetAttributesRequest.class));
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final Item item = new CachedItem(
+            new AwsItem(credentials, "table-2", "item-2")
+        );
+        item.put("delta", "five");
+        item.remove("omega");
+        MatcherAssert.assertThat(
+            "attribute should be changed in memory",
+            item,
+            Matchers.hasEntry("delta", "five")
+        );
+        Mockito.verify(aws, Mockito.times(1)).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void toleratesNullKeys() {
+        final Item item = new CachedItem(
+            new AwsItem(Mockito.mock(Credentials.class), "table-3", "item-3")
+        );
+        MatcherAssert.assertThat(
+            "NULL attribute should be absent",
+            item.containsKey(null),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "NULL attribute should have no value",
+            item.get(null),
+            Matchers.nullValue()
+        );
+    }
+}
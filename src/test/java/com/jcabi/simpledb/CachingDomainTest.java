@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.model.Attribute;
+import com.amazonaws.services.simpledb.model.GetAttributesRequest;
+import com.amazonaws.services.simpledb.model.GetAttributesResult;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link CachingDomain}.
+ * @since 1.0
+ */
+final class CachingDomainTest {
+
+    @Test
+    void servesRepeatedReadsFromMemory() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(
+            new GetAttributesResult().withAttributes(
+                new Attribute().withName("host").withValue("example.com")
+            )
+        ).when(aws).getAttributes(ArgumentMatchers.any(GetAttributesRequest.class));
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final CachingDomain domain = new CachingDomain(
+            new AwsDomain(credentials, "table-1"), 10, 1024L, 60_000L
+        );
+        for (int idx = 0; idx < 5; ++idx) {
+            domain.item("mail").get("host");
+        }
+        Mockito.verify(aws, Mockito.times(1)).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+        MatcherAssert.assertThat(
+            "hits should be counted",
+            domain.hits(),
+            Matchers.equalTo(4L)
+        );
+    }
+
+    @Test
+    void forgetsItemWrittenThroughIt() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(new GetAttributesResult()).when(aws).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final Domain domain = new CachingDomain(
+            new AwsDomain(credentials, "table-2"), 10, 1024L, 60_000L
+        );
+        final Item item = domain.item("mail");
+        item.containsKey("port");
+        item.clear();
+        item.containsKey("port");
+        Mockito.verify(aws, Mockito.times(2)).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedItems() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(new GetAttributesResult()).when(aws).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final CachingDomain domain = new CachingDomain(
+            new AwsDomain(credentials, "table-3"), 2, 1024L, 60_000L
+        );
+        domain.item("a").isEmpty();
+        domain.item("b").isEmpty();
+        domain.item("a").isEmpty();
+        domain.item("c").isEmpty();
+        domain.item("a").isEmpty();
+        MatcherAssert.assertThat(
+            "least recently used item should be evicted",
+            domain.evictions(),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "recently used item should stay",
+            domain.hits(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    void forgetsItemPutIntoBatchBeforeFlush() {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(new GetAttributesResult()).when(aws).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        final Domain domain = new CachingDomain(
+            new AwsDomain(credentials, "table-4"), 10, 1024L, 60_000L
+        );
+        domain.item("mail").isEmpty();
+        domain.batch(Runnable::run).put(
+            "mail", Collections.singletonMap("port", "25")
+        );
+        domain.item("mail").isEmpty();
+        Mockito.verify(aws, Mockito.times(2)).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+    }
+}
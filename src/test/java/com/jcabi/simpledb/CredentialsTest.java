@@ -4,9 +4,11 @@
  */
 package com.jcabi.simpledb;
 
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 /**
  * Test case for {@link Credentials}.
@@ -34,4 +36,79 @@ final class CredentialsTest {
         );
         MatcherAssert.assertThat("should be not null", creds.aws(), Matchers.notNullValue());
     }
+
+    @Test
+    void reusesAwsClient() {
+        final Credentials creds = new Credentials.Simple(
+            "ABABABABABABABABABCD",
+            "ABCDEABCDEABCDEABCDEABCDEABCDEABCDEABCCD"
+        );
+        MatcherAssert.assertThat(
+            "should be the same client",
+            creds.aws(),
+            Matchers.sameInstance(creds.aws())
+        );
+    }
+
+    @Test
+    void buildsNewAwsClientAfterClose() {
+        final Credentials.Simple creds = new Credentials.Simple(
+            "ABABABABABABABABABGH",
+            "ABCDEABCDEABCDEABCDEABCDEABCDEABCDEABCGH"
+        );
+        final AmazonSimpleDB before = creds.aws();
+        creds.close();
+        MatcherAssert.assertThat(
+            "should be a new client",
+            creds.aws(),
+            Matchers.not(Matchers.sameInstance(before))
+        );
+    }
+
+    @Test
+    void closesWrappedCredentials() {
+        final Credentials.Simple creds = new Credentials.Simple(
+            "ABABABABABABABABABIJ",
+            "ABCDEABCDEABCDEABCDEABCDEABCDEABCDEABCIJ"
+        );
+        final AmazonSimpleDB before = creds.aws();
+        new Credentials.Billed(
+            new Credentials.Metered(
+                new Credentials.Throttled(creds, 10),
+                Mockito.mock(Metrics.class)
+            ),
+            (action, domain, request, hours) -> { }
+        ).close();
+        MatcherAssert.assertThat(
+            "should be a new client after wrapper is closed",
+            creds.aws(),
+            Matchers.not(Matchers.sameInstance(before))
+        );
+    }
+
+    @Test
+    void keepsAwsClientOfEqualCredentialsOnClose() {
+        final Credentials.Simple first = new Credentials.Simple(
+            "ABABABABABABABABABKL",
+            "ABCDEABCDEABCDEABCDEABCDEABCDEABCDEABCKL"
+        );
+        final Credentials.Simple second = new Credentials.Simple(
+            "ABABABABABABABABABKL",
+            "ABCDEABCDEABCDEABCDEABCDEABCDEABCDEABCKL"
+        );
+        final AmazonSimpleDB before = second.aws();
+        first.aws();
+        first.close();
+        MatcherAssert.assertThat(
+            "client of equal credentials should survive",
+            second.aws(),
+            Matchers.sameInstance(before)
+        );
+        second.close();
+        MatcherAssert.assertThat(
+            "client should be shut down by the last user",
+            second.aws(),
+            Matchers.not(Matchers.sameInstance(before))
+        );
+    }
 }
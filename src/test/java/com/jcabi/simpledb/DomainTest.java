@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for default methods of {@link Domain}.
+ * @since 1.0
+ */
+final class DomainTest {
+
+    @Test
+    void writesBatchItemByItem() {
+        final Domain domain = new DomainTest.PlainDomain();
+        final Batch batch = domain.batch(Runnable::run);
+        batch.put("first", Collections.singletonMap("color", "red"));
+        batch.put("second", Collections.singletonMap("color", "blue"));
+        batch.delete("second", Collections.singleton("color"));
+        MatcherAssert.assertThat(
+            "should not fail any write",
+            batch.flush().entrySet(),
+            Matchers.empty()
+        );
+        MatcherAssert.assertThat(
+            "should write the first item",
+            domain.item("first").get("color"),
+            Matchers.equalTo("red")
+        );
+        MatcherAssert.assertThat(
+            "should delete from the second item",
+            domain.item("second").containsKey("color"),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void streamsNotMoreThanLimit() {
+        final Domain domain = new DomainTest.PlainDomain();
+        for (int idx = 0; idx < 5; ++idx) {
+            domain.item(String.format("item-%d", idx)).put("a", "b");
+        }
+        MatcherAssert.assertThat(
+            "should stream not more items than requested",
+            domain.stream(new SelectRequest("select * from plain"), 3L)
+                .collect(Collectors.toList()),
+            Matchers.hasSize(3)
+        );
+    }
+
+    /**
+     * Domain implemented outside of the library, with its first methods.
+     * @since 1.0
+     */
+    private static final class PlainDomain implements Domain {
+
+        /**
+         * Items, by names.
+         */
+        private final transient ConcurrentMap<String, Item> items =
+            new ConcurrentHashMap<>(0);
+
+        @Override
+        public void create() {
+            this.items.clear();
+        }
+
+        @Override
+        public void drop() {
+            this.items.clear();
+        }
+
+        @Override
+        public String name() {
+            return "plain";
+        }
+
+        @Override
+        public Item item(final String name) {
+            return this.items.computeIfAbsent(
+                name, key -> new DomainTest.PlainItem(key)
+            );
+        }
+
+        @Override
+        public Iterable<Item> select(final SelectRequest request) {
+            return new ArrayList<>(this.items.values());
+        }
+    }
+
+    /**
+     * Item of the plain domain.
+     * @since 1.0
+     */
+    private static final class PlainItem
+        extends ConcurrentHashMap<String, String> implements Item {
+
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 0x2d6f80c41be93a57L;
+
+        /**
+         * Name of the item.
+         */
+        private final transient String label;
+
+        /**
+         * Ctor.
+         * @param name Name of the item
+         */
+        PlainItem(final String name) {
+            super(0);
+            this.label = name;
+        }
+
+        @Override
+        public String name() {
+            return this.label;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for default methods of {@link Item}.
+ * @since 1.0
+ */
+final class ItemTest {
+
+    @Test
+    void loadsFreshCopyOfPlainItem() {
+        final Item item = new ItemTest.PlainItem();
+        item.put("color", "red");
+        final Item fresh = item.fresh();
+        item.put("color", "green");
+        MatcherAssert.assertThat(
+            "should keep attributes loaded",
+            fresh.get("color"),
+            Matchers.equalTo("red")
+        );
+        MatcherAssert.assertThat(
+            "should see all values of attribute",
+            item.all("color"),
+            Matchers.contains("green")
+        );
+    }
+
+    @Test
+    void writesIfConditionHolds() {
+        final Item item = new ItemTest.PlainItem();
+        item.put("version", "1");
+        item.putAll(
+            Collections.singletonMap("version", "2"),
+            new Condition("version", "1")
+        );
+        MatcherAssert.assertThat(
+            "should write when condition holds",
+            item.get("version"),
+            Matchers.equalTo("2")
+        );
+    }
+
+    @Test
+    void rejectsWriteIfConditionFails() {
+        final Item item = new ItemTest.PlainItem();
+        item.put("version", "3");
+        Assertions.assertThrows(
+            ConflictException.class,
+            () -> item.delete(
+                Collections.emptyList(), new Condition("version", "1")
+            ),
+            "should reject write when condition fails"
+        );
+        MatcherAssert.assertThat(
+            "should not delete anything",
+            item.get("version"),
+            Matchers.equalTo("3")
+        );
+    }
+
+    /**
+     * Item implemented outside of the library, with only methods of map.
+     * @since 1.0
+     */
+    private static final class PlainItem
+        extends ConcurrentHashMap<String, String> implements Item {
+
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 0x4e1b7d20a93c5f16L;
+
+        @Override
+        public String name() {
+            return "plain";
+        }
+    }
+}
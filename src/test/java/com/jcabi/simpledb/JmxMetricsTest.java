@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.model.Attribute;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.amazonaws.services.simpledb.model.SelectResult;
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link JmxMetrics}.
+ * @since 1.0
+ */
+final class JmxMetricsTest {
+
+    @Test
+    void exposesMetricsOfSelectsThroughJmx() throws JMException {
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doReturn(
+            new SelectResult().withItems(
+                new com.amazonaws.services.simpledb.model.Item()
+                    .withName("item-1")
+                    .withAttributes(
+                        new Attribute().withName("alpha").withValue("one")
+                    ),
+                new com.amazonaws.services.simpledb.model.Item()
+                    .withName("item-2")
+            )
+        ).when(aws).select(ArgumentMatchers.any(SelectRequest.class));
+        final Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(credentials).aws();
+        new AwsDomain(
+            new Credentials.Metered(credentials, new JmxMetrics("jmx-test")),
+            "table-1"
+        ).select(new SelectRequest("SELECT * FROM `table-1`")).forEach(
+            item -> item.name()
+        );
+        final ObjectName name = new ObjectName(
+            "jmx-test:type=Action,domain=\"table-1\",name=\"Select\""
+        );
+        MatcherAssert.assertThat(
+            "calls should be counted",
+            ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(name, "Calls"),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "items should be counted",
+            ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(name, "Items"),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    void unregistersMBeansOnClose() throws JMException {
+        final JmxMetrics metrics = new JmxMetrics("jmx-close");
+        metrics.count("Select", "table-2", Metrics.ITEMS, 1.0d);
+        final ObjectName name = new ObjectName(
+            "jmx-close:type=Action,domain=\"table-2\",name=\"Select\""
+        );
+        metrics.close();
+        MatcherAssert.assertThat(
+            "MBean should be unregistered",
+            ManagementFactory.getPlatformMBeanServer().isRegistered(name),
+            Matchers.is(false)
+        );
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.DomainMetadataResult;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MetadataCache}.
+ * @since 1.0
+ */
+final class MetadataCacheTest {
+
+    @Test
+    void loadsMetadataOnce() {
+        final MetadataCache cache =
+            new MetadataCache(TimeUnit.MINUTES.toNanos(1L));
+        final AtomicInteger loads = new AtomicInteger();
+        for (int idx = 0; idx < 3; ++idx) {
+            cache.metadata(
+                Credentials.TEST, "table-1",
+                () -> {
+                    loads.incrementAndGet();
+                    return new Metadata(new DomainMetadataResult());
+                }
+            );
+        }
+        MatcherAssert.assertThat(
+            "should load metadata only once",
+            loads.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void loadsAgainAfterFailure() {
+        final MetadataCache cache =
+            new MetadataCache(TimeUnit.MINUTES.toNanos(1L));
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> cache.metadata(
+                Credentials.TEST, "table-2",
+                () -> {
+                    throw new IllegalStateException("failed");
+                }
+            ),
+            "should report failure of the load"
+        );
+        final Metadata meta = new Metadata(new DomainMetadataResult());
+        MatcherAssert.assertThat(
+            "should not keep the failed load",
+            cache.metadata(Credentials.TEST, "table-2", () -> meta),
+            Matchers.sameInstance(meta)
+        );
+    }
+
+    @Test
+    void loadsAgainWhenExpired() {
+        final MetadataCache cache = new MetadataCache(-1L);
+        final Metadata meta = new Metadata(new DomainMetadataResult());
+        cache.metadata(
+            Credentials.TEST, "table-3",
+            () -> new Metadata(new DomainMetadataResult())
+        );
+        MatcherAssert.assertThat(
+            "should load expired metadata again",
+            cache.metadata(Credentials.TEST, "table-3", () -> meta),
+            Matchers.sameInstance(meta)
+        );
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.DomainMetadataResult;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Metadata}.
+ * @since 1.0
+ */
+final class MetadataTest {
+
+    @Test
+    void reportsUsageOfTheBiggestLimit() {
+        MatcherAssert.assertThat(
+            "usage should be of the values limit",
+            new Metadata(
+                new DomainMetadataResult()
+                    .withAttributeValueCount(500_000_000)
+                    .withAttributeValuesSizeBytes(1024L)
+            ).usage(),
+            Matchers.closeTo(0.5d, 0.001d)
+        );
+    }
+
+    @Test
+    void readsSizeOfDomain() {
+        final Domain domain = new Region.InMemory().domain("sized");
+        domain.create();
+        domain.item("abc").append("tags", Arrays.asList("x", "yz"));
+        domain.item("de").put("tags", "x");
+        final Metadata meta = domain.metadata();
+        MatcherAssert.assertThat(
+            "numbers should be reported",
+            Arrays.asList(
+                meta.items(), meta.attributeNames(), meta.attributeValues(),
+                meta.bytes()
+            ),
+            Matchers.contains(2L, 1L, 3L, 13L)
+        );
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link PrefetchedItems}.
+ * @since 1.0
+ */
+final class PrefetchedItemsTest {
+
+    @Test
+    void fetchesAllItemsInOrder() {
+        final List<Item> items = Arrays.asList(
+            Mockito.mock(Item.class), Mockito.mock(Item.class),
+            Mockito.mock(Item.class), Mockito.mock(Item.class),
+            Mockito.mock(Item.class)
+        );
+        final Iterator<Item> iterator =
+            new PrefetchedItems(items, 2, Runnable::run).start();
+        final Collection<Item> fetched = new ArrayList<>(0);
+        while (iterator.hasNext()) {
+            fetched.add(iterator.next());
+        }
+        MatcherAssert.assertThat(
+            "all items should be fetched in order",
+            fetched,
+            Matchers.contains(items.toArray())
+        );
+    }
+
+    @Test
+    void reportsFailureAfterItemsFetched() {
+        final Item first = Mockito.mock(Item.class);
+        final Iterator<Item> iterator = new PrefetchedItems(
+            () -> new Iterator<Item>() {
+                /**
+                 * Is the first item given out?
+                 */
+                private boolean given;
+
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public Item next() {
+                    if (this.given) {
+                        throw new IllegalStateException("network is down");
+                    }
+                    this.given = true;
+                    return first;
+                }
+            },
+            3, Runnable::run
+        ).start();
+        MatcherAssert.assertThat(
+            "item fetched before failure should be given out",
+            iterator.next(),
+            Matchers.sameInstance(first)
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            iterator::hasNext,
+            "failure of background fetch should be reported"
+        );
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.SelectResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link PrefetchedPages}.
+ * @since 1.0
+ */
+final class PrefetchedPagesTest {
+
+    @Test
+    void fetchesAllPagesInOrder() {
+        final Collection<SelectResult> pages = Arrays.asList(
+            new SelectResult().withNextToken("a"),
+            new SelectResult().withNextToken("b"),
+            new SelectResult().withNextToken("c"),
+            new SelectResult()
+        );
+        final Iterator<SelectResult> iterator =
+            new PrefetchedPages(pages.iterator(), 2);
+        final Collection<SelectResult> fetched = new ArrayList<>(0);
+        while (iterator.hasNext()) {
+            fetched.add(iterator.next());
+        }
+        MatcherAssert.assertThat(
+            "all pages should be fetched in order",
+            fetched,
+            Matchers.contains(pages.toArray())
+        );
+    }
+
+    @Test
+    void reportsFailureOfBackgroundFetch() {
+        final Iterator<SelectResult> iterator = new PrefetchedPages(
+            new Iterator<SelectResult>() {
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public SelectResult next() {
+                    throw new IllegalStateException("network is down");
+                }
+            },
+            3
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            iterator::next
+        );
+    }
+
+    @Test
+    void stopsFetchingWhenClosed() {
+        final PrefetchedPages pages = new PrefetchedPages(
+            Collections.nCopies(10, new SelectResult()).iterator(), 3
+        );
+        pages.next();
+        pages.close();
+        MatcherAssert.assertThat(
+            "closed pages should be over",
+            pages.hasNext(),
+            Matchers.is(false)
+        );
+    }
+}
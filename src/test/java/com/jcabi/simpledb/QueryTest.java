@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Query}.
+ * @since 1.0
+ */
+final class QueryTest {
+
+    @Test
+    void compilesExpressionWithQuotes() {
+        MatcherAssert.assertThat(
+            "names and values should be quoted",
+            new Query("my`table")
+                .attributes("name", "age")
+                .where(
+                    Query.Filter.eq("name", "Jeff's")
+                        .and(Query.Filter.in("age", "1", "2").not())
+                        .or(Query.Filter.isNull(Query.every("tags")))
+                )
+                .orderByDescending("name")
+                .limit(5)
+                .request()
+                .getSelectExpression(),
+            Matchers.equalTo(
+                String.join(
+                    "",
+                    "select `name`, `age` from `my``table` where ",
+                    "((`name` = 'Jeff''s' and not (`age` in ('1', '2')))",
+                    " or every(`tags`) is null) order by `name` desc limit 5"
+                )
+            )
+        );
+    }
+
+    @Test
+    void putsValuesOfParameters() {
+        final Query query = new Query("people").names().where(
+            Query.Filter.between(
+                "age", new Query.Param("low"), new Query.Param("high")
+            ).and(Query.Filter.ne(Query.ITEM_NAME, new Query.Param("low")))
+        );
+        final Map<String, String> values = new HashMap<>(0);
+        values.put("low", "0'1");
+        values.put("high", "99");
+        MatcherAssert.assertThat(
+            "parameters should be replaced by values",
+            query.request(values).getSelectExpression(),
+            Matchers.equalTo(
+                String.join(
+                    "",
+                    "select itemName() from `people` where (`age` between ",
+                    "'0''1' and '99' and itemName() != '0''1')"
+                )
+            )
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> query.request(Collections.singletonMap("low", "1")),
+            "missing parameter should be reported"
+        );
+    }
+
+    @Test
+    void rejectsSortByAttributeOutOfFilter() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new Query("books").orderBy("title").request(),
+            "invalid sort should be reported"
+        );
+    }
+
+    @Test
+    void validatesSortOnlyWhenRequestIsMade() {
+        MatcherAssert.assertThat(
+            "sort should be valid once the filter is set",
+            new Query("books").orderBy("title")
+                .where(Query.Filter.gt("title", "A"))
+                .request()
+                .getSelectExpression(),
+            Matchers.equalTo(
+                "select * from `books` where `title` > 'A' order by `title`"
+            )
+        );
+    }
+
+    @Test
+    void rejectsEmptyListOfAttributes() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Query("books").attributes(),
+            "empty list of attributes should be rejected"
+        );
+    }
+
+    @Test
+    void selectsItemsFromDomain() {
+        final Domain domain = new Region.InMemory().domain("books");
+        domain.create();
+        for (int idx = 0; idx < 10; ++idx) {
+            domain.item(String.format("book-%d", idx))
+                .put("year", String.format("19%d0", idx));
+        }
+        final Query query = new Query(domain.name())
+            .where(Query.Filter.ge("year", new Query.Param("since")));
+        final Collection<String> names = new ArrayList<>(0);
+        for (final Item item : domain.select(
+            query.orderBy("year").request(
+                Collections.singletonMap("since", "1970")
+            )
+        )) {
+            names.add(item.name());
+        }
+        MatcherAssert.assertThat(
+            "items should be selected",
+            names,
+            Matchers.contains("book-7", "book-8", "book-9")
+        );
+        MatcherAssert.assertThat(
+            "items should be counted",
+            domain.select(
+                query.count().request(
+                    Collections.singletonMap("since", "1950")
+                )
+            ),
+            Matchers.contains(Matchers.hasEntry("Count", "5"))
+        );
+    }
+}
@@ -4,6 +4,17 @@
  */
 package com.jcabi.simpledb;
 
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -20,4 +31,172 @@ final class RegionTest {
             org.hamcrest.Matchers.is(true)
         );
     }
+
+    @Test
+    void putsAndRemovesItemsInMemory() {
+        final Domain domain = new Region.InMemory().domain("memory-1");
+        domain.create();
+        final Item item = domain.item("jeff");
+        item.put("age", "42");
+        item.append("tags", Arrays.asList("red", "green"));
+        MatcherAssert.assertThat(
+            "all values should be kept",
+            item.all("tags"),
+            Matchers.contains("red", "green")
+        );
+        item.put("age", "43");
+        MatcherAssert.assertThat(
+            "value should be replaced",
+            item.get("age"),
+            Matchers.equalTo("43")
+        );
+        item.remove("tags");
+        MatcherAssert.assertThat(
+            "attribute should be removed",
+            item.keySet(),
+            Matchers.contains("age")
+        );
+        item.clear();
+        MatcherAssert.assertThat(
+            "item should be removed",
+            item.isEmpty(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void selectsItemsInMemory() {
+        final Domain domain = new Region.InMemory().domain("memory-2");
+        domain.create();
+        for (int idx = 0; idx < 250; ++idx) {
+            domain.item(String.format("i-%03d", idx)).put(
+                "price", String.format("%05d", idx % 50)
+            );
+        }
+        domain.item("i-000").append("tags", Arrays.asList("a", "b"));
+        final List<String> names = new ArrayList<>(0);
+        for (final Item item : domain.select(
+            new SelectRequest(
+                String.join(
+                    " ", "SELECT price FROM `memory-2`",
+                    "WHERE price >= '00045' ORDER BY price DESC"
+                )
+            )
+        )) {
+            names.add(item.name());
+        }
+        MatcherAssert.assertThat(
+            "items should be selected in order",
+            names,
+            Matchers.allOf(
+                Matchers.<String>iterableWithSize(25),
+                Matchers.hasItem("i-049")
+            )
+        );
+        MatcherAssert.assertThat(
+            "multi-valued attribute should match",
+            domain.select(
+                new SelectRequest(
+                    String.join(
+                        " ", "select * from `memory-2` where tags = 'b'",
+                        "and not (itemName() like 'x%' or price is null)"
+                    )
+                )
+            ),
+            Matchers.contains(Matchers.hasEntry("tags", "a"))
+        );
+        MatcherAssert.assertThat(
+            "items should be counted",
+            domain.select(
+                new SelectRequest(
+                    String.join(
+                        " ", "select count(*) from `memory-2`",
+                        "where price between '00010' and '00019'"
+                    )
+                )
+            ),
+            Matchers.contains(Matchers.hasEntry("Count", "50"))
+        );
+    }
+
+    @Test
+    void pagesThroughEqualValuesInMemory() {
+        final Domain domain = new Region.InMemory().domain("memory-5");
+        domain.create();
+        for (int idx = 0; idx < 250; ++idx) {
+            domain.item(String.format("i-%03d", idx)).put(
+                "price", String.format("%05d", idx % 10)
+            );
+        }
+        final List<Item> items = new ArrayList<>(0);
+        domain.select(
+            new SelectRequest(
+                String.join(
+                    " ", "SELECT price FROM `memory-5`",
+                    "WHERE price >= '00000' ORDER BY price LIMIT 7"
+                )
+            )
+        ).forEach(items::add);
+        final List<Item> sorted = new ArrayList<>(items);
+        sorted.sort(
+            Comparator.comparing((Item item) -> item.get("price"))
+                .thenComparing(Item::name)
+        );
+        MatcherAssert.assertThat(
+            "every item should be selected once",
+            items.stream().map(Item::name).collect(Collectors.toSet()),
+            Matchers.hasSize(250)
+        );
+        MatcherAssert.assertThat(
+            "items should be selected in order",
+            items,
+            Matchers.allOf(
+                Matchers.<Item>iterableWithSize(250),
+                Matchers.equalTo(sorted)
+            )
+        );
+    }
+
+    @Test
+    void rejectsConflictingWriteInMemory() {
+        final Domain domain = new Region.InMemory().domain("memory-3");
+        domain.create();
+        final Item item = domain.item("doc");
+        item.putAll(
+            Collections.singletonMap("version", "1"), new Condition("version")
+        );
+        item.putAll(
+            Collections.singletonMap("version", "2"),
+            new Condition("version", "1")
+        );
+        Assertions.assertThrows(
+            ConflictException.class,
+            () -> item.putAll(
+                Collections.singletonMap("version", "3"),
+                new Condition("version", "1")
+            ),
+            "conflict should be reported"
+        );
+        MatcherAssert.assertThat(
+            "conflicting write should be ignored",
+            item.get("version"),
+            Matchers.equalTo("2")
+        );
+    }
+
+    @Test
+    void rejectsInvalidQueryInMemory() {
+        final Region region = new Region.InMemory();
+        region.domain("memory-4").create();
+        MatcherAssert.assertThat(
+            "invalid query should be rejected",
+            Assertions.assertThrows(
+                AmazonServiceException.class,
+                () -> region.domain("memory-4").select(
+                    new SelectRequest("select * from `memory-4` where a ~ 'b'")
+                ).iterator().hasNext()
+            ).getErrorCode(),
+            Matchers.equalTo("InvalidQueryExpression")
+        );
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link Scan}.
+ * @since 1.0
+ */
+final class ScanTest {
+
+    @Test
+    void selectsEverySegmentOnce() {
+        final Collection<String> queries = new ConcurrentLinkedQueue<>();
+        final Domain domain = Mockito.mock(Domain.class);
+        Mockito.doReturn("employees").when(domain).name();
+        Mockito.doAnswer(
+            invocation -> {
+                queries.add(
+                    invocation.getArgument(0, SelectRequest.class)
+                        .getSelectExpression()
+                );
+                return Collections.singletonList(Mockito.mock(Item.class));
+            }
+        ).when(domain).select(ArgumentMatchers.any(SelectRequest.class));
+        final List<Item> items = new Scan(domain, "`age` > '30'", "m", "f")
+            .stream().collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "every segment should be selected",
+            queries,
+            Matchers.containsInAnyOrder(
+                "SELECT * FROM `employees` WHERE (`age` > '30') AND itemName() < 'f'",
+                "SELECT * FROM `employees` WHERE (`age` > '30') AND itemName() >= 'f' AND itemName() < 'm'",
+                "SELECT * FROM `employees` WHERE (`age` > '30') AND itemName() >= 'm'"
+            )
+        );
+        MatcherAssert.assertThat(
+            "items of all segments should be found",
+            items,
+            Matchers.hasSize(3)
+        );
+    }
+
+    @Test
+    void countsAllSegments() {
+        final Domain domain = new Region.InMemory().domain("staff");
+        domain.create();
+        for (int idx = 0; idx < 30; ++idx) {
+            domain.item(String.format("e-%02d", idx)).put(
+                "age", String.format("%02d", idx)
+            );
+        }
+        MatcherAssert.assertThat(
+            "items of all segments should be counted",
+            new Scan(domain, "`age` >= '05'", "e-10", "e-20").count(),
+            Matchers.equalTo(25L)
+        );
+    }
+
+    @Test
+    void selectsSegmentsInItsOwnThreads() {
+        final Collection<String> threads = new ConcurrentLinkedQueue<>();
+        final Domain domain = Mockito.mock(Domain.class);
+        Mockito.doReturn("employees").when(domain).name();
+        Mockito.doAnswer(
+            invocation -> {
+                threads.add(Thread.currentThread().getName());
+                return Collections.singletonList(Mockito.mock(Item.class));
+            }
+        ).when(domain).select(ArgumentMatchers.any(SelectRequest.class));
+        new Scan(domain, "", "m").stream().count();
+        MatcherAssert.assertThat(
+            "segments should be selected by threads of the scan",
+            threads,
+            Matchers.contains(
+                Matchers.containsString("simpledb-scan"),
+                Matchers.containsString("simpledb-scan")
+            )
+        );
+    }
+
+    @Test
+    void fetchesAllPagesOfSegmentsInItsOwnThreads() {
+        final Collection<String> threads = new ConcurrentLinkedQueue<>();
+        final Domain domain = Mockito.mock(Domain.class);
+        Mockito.doReturn("employees").when(domain).name();
+        Mockito.doAnswer(
+            invocation -> ScanTest.pages(threads, new AtomicInteger(), 3000)
+        ).when(domain).select(ArgumentMatchers.any(SelectRequest.class));
+        MatcherAssert.assertThat(
+            "all items of all pages should be found",
+            new Scan(domain, "", "f", "m").stream().count(),
+            Matchers.equalTo(9000L)
+        );
+        MatcherAssert.assertThat(
+            "all pages should be fetched by threads of the scan",
+            threads,
+            Matchers.everyItem(Matchers.containsString("simpledb-scan"))
+        );
+        MatcherAssert.assertThat(
+            "every item should be fetched",
+            threads,
+            Matchers.hasSize(9000)
+        );
+    }
+
+    @Test
+    void stopsFetchingWhenStreamIsClosed() throws InterruptedException {
+        final AtomicInteger fetched = new AtomicInteger();
+        final Domain domain = Mockito.mock(Domain.class);
+        Mockito.doReturn("employees").when(domain).name();
+        Mockito.doAnswer(
+            invocation -> ScanTest.pages(
+                new ConcurrentLinkedQueue<>(), fetched, 100_000
+            )
+        ).when(domain).select(ArgumentMatchers.any(SelectRequest.class));
+        try (Stream<Item> items = new Scan(domain, "", "m").stream()) {
+            items.findFirst();
+        }
+        TimeUnit.MILLISECONDS.sleep(100L);
+        final int total = fetched.get();
+        TimeUnit.MILLISECONDS.sleep(100L);
+        MatcherAssert.assertThat(
+            "should stop fetching when the stream is closed",
+            fetched.get(),
+            Matchers.allOf(
+                Matchers.equalTo(total),
+                Matchers.lessThan(10_000)
+            )
+        );
+    }
+
+    /**
+     * Make items of a segment, which record threads fetching them.
+     * @param threads Names of threads fetching items
+     * @param fetched Number of items fetched
+     * @param total Number of items in the segment
+     * @return Items
+     */
+    private static Iterable<Item> pages(final Collection<String> threads,
+        final AtomicInteger fetched, final int total) {
+        final Item item = Mockito.mock(Item.class);
+        return () -> new Iterator<Item>() {
+            /**
+             * Number of items given out.
+             */
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return this.cursor < total;
+            }
+
+            @Override
+            public Item next() {
+                threads.add(Thread.currentThread().getName());
+                fetched.incrementAndGet();
+                ++this.cursor;
+                return item;
+            }
+        };
+    }
+}
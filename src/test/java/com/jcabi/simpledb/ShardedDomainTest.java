@@ -0,0 +1,212 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.services.simpledb.model.DomainMetadataResult;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link ShardedDomain}.
+ * @since 1.0
+ */
+final class ShardedDomainTest {
+
+    @Test
+    void spreadsItemsAcrossShards() {
+        final Region region = new Region.InMemory();
+        final Domain domain = new ShardedDomain(region, "users", 4);
+        domain.create();
+        final Batch batch = domain.batch(Runnable::run);
+        for (int idx = 0; idx < 100; ++idx) {
+            batch.put(
+                String.format("user-%d", idx),
+                Collections.singletonMap("age", String.format("%03d", idx))
+            );
+        }
+        MatcherAssert.assertThat(
+            "batch should not fail",
+            batch.flush().keySet(),
+            Matchers.empty()
+        );
+        for (int idx = 0; idx < 4; ++idx) {
+            MatcherAssert.assertThat(
+                "every shard should have some items",
+                region.domain(String.format("users-%d", idx))
+                    .metadata().items(),
+                Matchers.greaterThan(0L)
+            );
+        }
+        MatcherAssert.assertThat(
+            "item should be found in its shard",
+            domain.item("user-42").get("age"),
+            Matchers.equalTo("042")
+        );
+        MatcherAssert.assertThat(
+            "items of all shards should be counted",
+            domain.count(
+                new SelectRequest("SELECT count(*) FROM `users` LIMIT 7")
+            ),
+            Matchers.equalTo(100L)
+        );
+    }
+
+    @Test
+    void mergesSortedItemsOfShards() {
+        final Domain domain = new ShardedDomain(
+            new Region.InMemory(), "orders", 3
+        );
+        domain.create();
+        for (int idx = 0; idx < 50; ++idx) {
+            domain.item(String.format("order-%d", idx))
+                .put("total", String.format("%04d", idx * 7 % 50));
+        }
+        final List<String> totals = new ArrayList<>(0);
+        for (final Item item : domain.select(
+            new SelectRequest(
+                String.join(
+                    " ", "SELECT total FROM `orders`",
+                    "WHERE total >= '0010' ORDER BY total DESC LIMIT 4"
+                )
+            )
+        )) {
+            totals.add(item.get("total"));
+        }
+        final List<String> sorted = new ArrayList<>(totals);
+        sorted.sort(Collections.reverseOrder());
+        MatcherAssert.assertThat(
+            "items should be merged in order",
+            totals,
+            Matchers.allOf(
+                Matchers.<String>iterableWithSize(40),
+                Matchers.equalTo(sorted)
+            )
+        );
+        try (Stream<Item> items = domain.stream(
+            new SelectRequest("SELECT * FROM `orders` ORDER BY itemName()"),
+            3L
+        )) {
+            MatcherAssert.assertThat(
+                "stream should be merged and limited",
+                items.map(Item::name).collect(Collectors.toList()),
+                Matchers.contains("order-0", "order-1", "order-10")
+            );
+        }
+    }
+
+    @Test
+    void sortsByAttributeNotSelected() {
+        final Domain domain = new ShardedDomain(
+            new Region.InMemory(), "goods", 3
+        );
+        domain.create();
+        for (int idx = 0; idx < 30; ++idx) {
+            domain.item(String.format("good-%02d", idx))
+                .put("price", String.format("%03d", 29 - idx));
+        }
+        final List<String> names = new ArrayList<>(0);
+        for (final Item item : domain.select(
+            new SelectRequest(
+                String.join(
+                    " ", "SELECT itemName() FROM `goods`",
+                    "WHERE price > '000' ORDER BY price"
+                )
+            )
+        )) {
+            names.add(item.name());
+        }
+        final List<String> sorted = new ArrayList<>(names);
+        sorted.sort(Collections.reverseOrder());
+        MatcherAssert.assertThat(
+            "items should be merged in order of attribute not selected",
+            names,
+            Matchers.allOf(
+                Matchers.<String>iterableWithSize(29),
+                Matchers.equalTo(sorted)
+            )
+        );
+    }
+
+    @Test
+    void sumsMetadataBeyondIntegerRange() {
+        final Domain[] shards = new Domain[3];
+        for (int idx = 0; idx < shards.length; ++idx) {
+            shards[idx] = Mockito.mock(Domain.class);
+            Mockito.doReturn(
+                new Metadata(
+                    new DomainMetadataResult()
+                        .withItemCount(Integer.MAX_VALUE)
+                        .withAttributeValueCount(Integer.MAX_VALUE)
+                        .withAttributeNameCount(idx)
+                )
+            ).when(shards[idx]).metadata();
+        }
+        final Metadata meta = new ShardedDomain("big", shards).metadata();
+        MatcherAssert.assertThat(
+            "items of all shards should be summed up",
+            meta.items(),
+            Matchers.equalTo(3L * Integer.MAX_VALUE)
+        );
+        MatcherAssert.assertThat(
+            "values of all shards should be summed up",
+            meta.attributeValues(),
+            Matchers.equalTo(3L * Integer.MAX_VALUE)
+        );
+        MatcherAssert.assertThat(
+            "names should be of the shard with most of them",
+            meta.attributeNames(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    void selectsShardsInItsOwnThreads() {
+        final Collection<String> threads = new ConcurrentLinkedQueue<>();
+        final Domain[] shards = new Domain[2];
+        for (int idx = 0; idx < shards.length; ++idx) {
+            shards[idx] = Mockito.mock(Domain.class);
+            Mockito.doReturn(String.format("events-%d", idx))
+                .when(shards[idx]).name();
+            Mockito.doAnswer(
+                invocation -> {
+                    threads.add(Thread.currentThread().getName());
+                    return Collections.singletonList(
+                        Mockito.mock(Item.class)
+                    );
+                }
+            ).when(shards[idx]).select(
+                ArgumentMatchers.any(SelectRequest.class)
+            );
+        }
+        final List<Item> items = new ArrayList<>(0);
+        new ShardedDomain("events", shards).select(
+            new SelectRequest("SELECT * FROM `events`")
+        ).forEach(items::add);
+        MatcherAssert.assertThat(
+            "items of all shards should be found",
+            items,
+            Matchers.hasSize(2)
+        );
+        MatcherAssert.assertThat(
+            "shards should be selected by threads of the domain",
+            threads,
+            Matchers.contains(
+                Matchers.containsString("simpledb-shards"),
+                Matchers.containsString("simpledb-shards")
+            )
+        );
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.model.GetAttributesRequest;
+import com.amazonaws.services.simpledb.model.GetAttributesResult;
+import com.amazonaws.services.simpledb.model.PutAttributesRequest;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link Throttle}.
+ * @since 1.0
+ */
+final class ThrottleTest {
+
+    @Test
+    void retriesThrottledCall() {
+        final AmazonServiceException error =
+            new AmazonServiceException("slow down");
+        error.setErrorCode("ServiceUnavailable");
+        error.setStatusCode(503);
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        final GetAttributesResult result = new GetAttributesResult();
+        Mockito.doThrow(error).doThrow(error).doReturn(result)
+            .when(aws).getAttributes(
+                ArgumentMatchers.any(GetAttributesRequest.class)
+            );
+        MatcherAssert.assertThat(
+            "call should succeed after retries",
+            new InterceptedClient(aws, new Throttle(100.0d, 10, 5))
+                .getAttributes(new GetAttributesRequest("table-1", "item-1")),
+            Matchers.sameInstance(result)
+        );
+        Mockito.verify(aws, Mockito.times(3)).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void doesNotRetryConflicts() {
+        final AmazonServiceException error =
+            new AmazonServiceException("conflict");
+        error.setErrorCode("ConditionalCheckFailed");
+        error.setStatusCode(409);
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doThrow(error).when(aws).putAttributes(
+            ArgumentMatchers.any(PutAttributesRequest.class)
+        );
+        Assertions.assertThrows(
+            AmazonServiceException.class,
+            () -> new InterceptedClient(aws, new Throttle(100.0d, 10, 5))
+                .putAttributes(new PutAttributesRequest()),
+            "conflict should not be retried"
+        );
+        Mockito.verify(aws, Mockito.times(1)).putAttributes(
+            ArgumentMatchers.any(PutAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void stopsRetryingWhenBudgetIsExhausted() {
+        final AmazonServiceException error =
+            new AmazonServiceException("down");
+        error.setStatusCode(500);
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doThrow(error).when(aws).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+        final AmazonSimpleDB client =
+            new InterceptedClient(aws, new Throttle(1000.0d, 100, 1));
+        for (int idx = 0; idx < 20; ++idx) {
+            Assertions.assertThrows(
+                AmazonServiceException.class,
+                () -> client.getAttributes(new GetAttributesRequest()),
+                "failure should be reported"
+            );
+        }
+        Mockito.verify(aws, Mockito.atMost(31)).getAttributes(
+            ArgumentMatchers.any(GetAttributesRequest.class)
+        );
+    }
+
+    @Test
+    void rejectsInvalidLimits() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Throttle(0.0d, 10, 5),
+            "zero rate should be rejected"
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Throttle(10.0d, 10, 100),
+            "too many retries should be rejected"
+        );
+    }
+
+    @Test
+    void countsRetries() {
+        final AmazonServiceException error =
+            new AmazonServiceException("busy");
+        error.setErrorCode("ServiceUnavailable");
+        error.setStatusCode(503);
+        final AmazonSimpleDB aws = Mockito.mock(AmazonSimpleDB.class);
+        Mockito.doThrow(error).doReturn(new GetAttributesResult())
+            .when(aws).getAttributes(
+                ArgumentMatchers.any(GetAttributesRequest.class)
+            );
+        final Metrics metrics = Mockito.mock(Metrics.class);
+        new InterceptedClient(aws, new Throttle(100.0d, 10, 5, metrics))
+            .getAttributes(new GetAttributesRequest("table-1", "item-1"));
+        Mockito.verify(metrics).count(
+            "GetAttributes", "table-1", Metrics.RETRIES, 1.0d
+        );
+    }
+}
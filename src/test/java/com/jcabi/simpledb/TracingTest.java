@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.simpledb;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.simpledb.AmazonSimpleDBClient;
+import com.amazonaws.services.simpledb.SimpleDBResponseMetadata;
+import com.amazonaws.services.simpledb.model.GetAttributesRequest;
+import java.util.HashMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link Tracing}.
+ * @since 1.0
+ */
+final class TracingTest {
+
+    @Test
+    void passesResultThrough() {
+        MatcherAssert.assertThat(
+            "result should not be changed",
+            new Tracing().intercept(
+                "GetAttributes", "table-1",
+                new GetAttributesRequest("table-1", "item-1"), () -> "done"
+            ),
+            Matchers.equalTo("done")
+        );
+    }
+
+    @Test
+    void passesFailureThrough() {
+        Assertions.assertThrows(
+            AmazonServiceException.class,
+            () -> new Tracing().intercept(
+                "GetAttributes", "table-2",
+                new GetAttributesRequest("table-2", "item-2"),
+                () -> {
+                    throw new AmazonServiceException("failed");
+                }
+            ),
+            "failure should not be swallowed"
+        );
+    }
+
+    @Test
+    void delegatesShutdownOfTracedClient() {
+        final AmazonSimpleDBClient aws =
+            Mockito.mock(AmazonSimpleDBClient.class);
+        final GetAttributesRequest request = new GetAttributesRequest();
+        final SimpleDBResponseMetadata meta =
+            new SimpleDBResponseMetadata(new HashMap<>(0));
+        Mockito.doReturn(meta).when(aws).getCachedResponseMetadata(request);
+        final InterceptedClient client = new InterceptedClient(
+            new InterceptedClient(aws, new Tracing()), new Tracing()
+        );
+        client.shutdown();
+        Mockito.verify(aws).shutdown();
+        MatcherAssert.assertThat(
+            "metadata should come from the original client",
+            client.getCachedResponseMetadata(request),
+            Matchers.sameInstance(meta)
+        );
+    }
+}